@@ -0,0 +1,41 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.model.Insurance;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo de serializar a lista de seguros como o controller faz, usando um ObjectMapper
+ * configurado como o do Spring Boot e descartando os bytes gerados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class InsuranceSerializationBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private List<Insurance> insurances;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        insurances = SyntheticPortfolio.generate(size);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), insurances);
+    }
+}
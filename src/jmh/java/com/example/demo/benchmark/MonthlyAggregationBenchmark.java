@@ -0,0 +1,46 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.MonthlyPremiumTotals;
+import com.example.demo.domain.model.YearMonthPremiumTotals;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class MonthlyAggregationBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private List<Insurance> insurances;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        insurances = SyntheticPortfolio.generate(size);
+    }
+
+    @Benchmark
+    public Map<Integer, Double> calculateTotalPremiumByMonth() {
+        return Insurance.calculateTotalPremiumByMonth(insurances);
+    }
+
+    @Benchmark
+    public MonthlyPremiumTotals calculateTotalPremiumByMonthInParallel() {
+        return MonthlyPremiumTotals.of(insurances, InsuranceDateField.CLAIM_DATE, AggregationMode.PARALLEL);
+    }
+
+    @Benchmark
+    public YearMonthPremiumTotals calculateTotalPremiumByYearMonth() {
+        return YearMonthPremiumTotals.of(insurances, InsuranceDateField.START_DATE);
+    }
+}
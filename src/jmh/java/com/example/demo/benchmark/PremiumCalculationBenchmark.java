@@ -0,0 +1,44 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.model.Insurance;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class PremiumCalculationBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private List<Insurance> insurances;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        insurances = SyntheticPortfolio.generate(size);
+    }
+
+    @Benchmark
+    public double calculatePremium() {
+        double total = 0.0;
+        for (Insurance insurance : insurances) {
+            total += insurance.calculatePremium();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double calculatePremiumWithOverrides() {
+        double total = 0.0;
+        for (Insurance insurance : insurances) {
+            total += insurance.calculatePremium(insurance.getInsuredAmount() * 1.1, insurance.getRiskFactor());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.PortfolioSnapshot;
+import com.example.demo.domain.model.PremiumKernel;
+import com.example.demo.domain.model.RatingTable;
+import com.example.demo.infrastructure.config.PremiumKernelConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retarifação da carteira inteira: entidade por entidade contra os kernels em lote sobre arrays primitivos.
+ * Os cenários vetoriais exigem o kernel do profile {@code vector}: {@code mvn -Pbenchmark,vector verify}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "--add-modules", "jdk.incubator.vector"})
+public class PremiumKernelBenchmark {
+
+    private static final RatingTable RATING_TABLE = new RatingTable(0.06, 250.0, List.of(
+            new RatingTable.RiskBand(0.8, 0.9),
+            new RatingTable.RiskBand(1.2, 1.0),
+            new RatingTable.RiskBand(1.8, 1.25)));
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private List<Insurance> insurances;
+    private double[] insuredAmounts;
+    private double[] riskFactors;
+    private double[] premiums;
+    private PortfolioSnapshot snapshot;
+    private PremiumKernel vectorKernel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        insurances = SyntheticPortfolio.generate(size);
+        insuredAmounts = insurances.stream().mapToDouble(Insurance::getInsuredAmount).toArray();
+        riskFactors = insurances.stream().mapToDouble(Insurance::getRiskFactor).toArray();
+        premiums = new double[size];
+        PortfolioSnapshot.Builder builder = PortfolioSnapshot.builder();
+        insurances.forEach(builder::add);
+        snapshot = builder.build();
+        vectorKernel = PremiumKernelConfig.vectorKernelFactory().map(factory -> factory.create(RATING_TABLE)).orElse(null);
+    }
+
+    @Benchmark
+    public double perEntity() {
+        double total = 0.0;
+        for (Insurance insurance : insurances) {
+            total += RATING_TABLE.premium(insurance.getInsuredAmount(), insurance.getRiskFactor());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double[] scalarKernel() {
+        PremiumKernel.scalar(RATING_TABLE).price(insuredAmounts, riskFactors, premiums, size);
+        return premiums;
+    }
+
+    @Benchmark
+    public double[] vectorKernel() {
+        requireVectorKernel().price(insuredAmounts, riskFactors, premiums, size);
+        return premiums;
+    }
+
+    @Benchmark
+    public double snapshotReprice() {
+        return snapshot.reprice(requireVectorKernel()).repricedTotalPremium();
+    }
+
+    private PremiumKernel requireVectorKernel() {
+        if (vectorKernel == null) {
+            throw new IllegalStateException("Vector kernel not compiled; run with -Pbenchmark,vector");
+        }
+        return vectorKernel;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a leitura de uma página de seguros do H2 em transação de escrita (snapshots e dirty-checking no commit),
+ * em transação somente leitura e como projeção sem entidades. Rode com {@code -prof gc} para ver a alocação por
+ * operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int ROWS = 50_000;
+
+    @Param({"100", "1000", "10000"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private InsuranceRepositoryPort repository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:read-path-benchmark", "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(InsuranceRepositoryPort.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Insurance> portfolio = SyntheticPortfolio.generate(ROWS);
+        for (Insurance insurance : portfolio) {
+            insurance.setId(null);
+            insurance.setVersion(null);
+        }
+        for (int from = 0; from < ROWS; from += 1000) {
+            repository.saveAllInBatch(portfolio.subList(from, from + 1000));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Insurance> readEntitiesInReadWriteTransaction() {
+        return readWrite.execute(status -> repository.findPageAfter(null, pageSize));
+    }
+
+    @Benchmark
+    public List<Insurance> readEntitiesInReadOnlyTransaction() {
+        return readOnly.execute(status -> repository.findPageAfter(null, pageSize));
+    }
+
+    @Benchmark
+    public List<InsuranceProjection> readProjection() {
+        return repository.findFieldsPageAfter(InsuranceField.DEFAULT, null, pageSize);
+    }
+}
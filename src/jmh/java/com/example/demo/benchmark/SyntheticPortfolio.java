@@ -0,0 +1,46 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.model.Insurance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera carteiras sintéticas de seguros para os benchmarks, com semente fixa para que as execuções sejam comparáveis.
+ */
+final class SyntheticPortfolio {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    private SyntheticPortfolio() {
+    }
+
+    static List<Insurance> generate(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        // Datas e nomes são compartilhados entre os objetos para que 10M de seguros caibam no heap
+        LocalDate[] dates = new LocalDate[730];
+        for (int day = 0; day < dates.length; day++) {
+            dates[day] = BASE_DATE.plusDays(day);
+        }
+        String[] holders = {"Maria Souza", "João Silva", "Ana Lima", "Pedro Santos"};
+
+        List<Insurance> insurances = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int startDay = random.nextInt(365);
+            insurances.add(Insurance.builder()
+                    .id((long) i + 1)
+                    .version(0L)
+                    .policyNumber("POL-" + i)
+                    .holderName(holders[i % holders.length])
+                    .startDate(dates[startDay])
+                    .endDate(dates[startDay + 365])
+                    .claimDate(random.nextInt(4) == 0 ? dates[startDay + random.nextInt(365)] : null)
+                    .insuredAmount(10_000 + random.nextInt(990_000))
+                    .riskFactor(0.5 + random.nextDouble())
+                    .build());
+        }
+        return insurances;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.application.ports;
+
+public interface ChangeCounterRepositoryPort {
+
+    /**
+     * Soma 1 ao contador da tabela. Deve ser chamado dentro da transação da escrita.
+     * @throws org.springframework.dao.IncorrectUpdateSemanticsDataAccessException se o contador não existe (a linha é criada em {@code data.sql}).
+     */
+    void increment(String tableName);
+
+    /**
+     * @return Quantidade de alterações registradas para a tabela; 0 se nunca houve escrita.
+     */
+    long getChangeCount(String tableName);
+}
@@ -1,13 +1,123 @@
 package com.example.demo.application.ports;
 
 import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import com.example.demo.domain.model.MonthlyPremium;
+import com.example.demo.domain.model.YearMonthPremiumTotals;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface InsuranceRepositoryPort {
     Insurance save(Insurance insurance);
     Optional<Insurance> findById(Long id);
     List<Insurance> findAll();
     void deleteById(Long id);
+    boolean existsById(Long id);
+    List<Insurance> findAllById(Iterable<Long> ids);
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    /**
+     * Persiste (ou mescla) todos os seguros e descarrega as alterações em lotes JDBC.
+     * @return Os seguros salvos, na mesma ordem da entrada.
+     */
+    List<Insurance> saveAllInBatch(List<Insurance> insurances);
+
+    /**
+     * Trava a linha do seguro até o fim da transação corrente ({@code SELECT ... FOR UPDATE}), para que leituras
+     * seguintes na mesma transação vejam o estado que será alterado. Deve ser chamado dentro de uma transação.
+     * @return A versão da linha travada, ou vazio se o id não existe.
+     */
+    Optional<Long> lockById(Long id);
+
+    /**
+     * Variante de {@link #findAllById} que trava as linhas lidas até o fim da transação corrente, em ordem de id.
+     * Deve ser chamado dentro de uma transação.
+     */
+    List<Insurance> findAllByIdForUpdate(Collection<Long> ids);
+
+    /**
+     * Atualiza o seguro com um único UPDATE, incrementando a versão.
+     * Quando {@code insurance.getVersion()} é informado, a linha só é alterada se a versão no banco for a mesma.
+     * @return Quantidade de linhas alteradas (0 se o id não existe ou a versão está desatualizada).
+     */
+    int updateIfVersionMatches(Insurance insurance);
+
+    /**
+     * Remove o seguro com um único DELETE.
+     * @return Quantidade de linhas removidas (0 se o id não existe).
+     */
+    int deleteByIdReturningCount(Long id);
+
+    /**
+     * Busca uma página de seguros ordenada por id, a partir do cursor informado (keyset pagination).
+     * @param afterId último id já lido (exclusivo); {@code null} para começar do início.
+     * @param limit quantidade máxima de registros na página.
+     * @return Seguros com id maior que {@code afterId}, em ordem crescente de id.
+     */
+    List<Insurance> findPageAfter(Long afterId, int limit);
+
+    Optional<Insurance> findByPolicyNumber(String policyNumber);
+
+    /**
+     * Soma, no banco de dados, o prêmio dos seguros com data de sinistro agrupado pelo mês do sinistro.
+     * @return Uma linha por mês que possui sinistros, em ordem crescente de mês.
+     */
+    List<MonthlyPremium> sumPremiumByClaimMonth();
+
+    /**
+     * Consultas da API que leem apenas os campos pedidos, sem carregar entidades: a página por id como
+     * {@link #findPageAfter}, a busca por prefixo do nome do titular (índice de holderName) e a busca por data de
+     * sinistro no intervalo fechado (índice de claimDate).
+     * @return Até {@code limit} projeções, ordenadas por id, por nome do titular e id ou por data de sinistro e id;
+     * apenas os campos pedidos vêm preenchidos.
+     */
+    List<InsuranceProjection> findFieldsPageAfter(Set<InsuranceField> fields, Long afterId, int limit);
+
+    List<InsuranceProjection> findFieldsByHolderNamePrefix(Set<InsuranceField> fields, String prefix, int limit);
+
+    List<InsuranceProjection> findFieldsByClaimDateRange(Set<InsuranceField> fields, LocalDate from, LocalDate to,
+                                                         int limit);
+
+    /**
+     * Variantes de {@link #findById}, {@link #findByPolicyNumber} e {@link #findFieldsPageAfter} que, com
+     * {@code includeArchived}, também consultam a tabela de arquivo. Sem a flag leem apenas a tabela principal.
+     * Na página, as duas tabelas são intercaladas por id.
+     */
+    Optional<Insurance> findById(Long id, boolean includeArchived);
+
+    Optional<Insurance> findByPolicyNumber(String policyNumber, boolean includeArchived);
+
+    List<InsuranceProjection> findFieldsPageAfter(Set<InsuranceField> fields, Long afterId, int limit,
+                                                  boolean includeArchived);
+
+    /**
+     * Busca seguros vencidos antes da data informada, usando o índice de endDate, e trava as linhas até o fim da
+     * transação corrente: o que for arquivado é exatamente o estado que sai da tabela e do rollup.
+     * @return Até {@code limit} seguros em ordem crescente de id.
+     */
+    List<Insurance> findEndedBefore(LocalDate date, int limit);
+
+    /**
+     * Copia os seguros para a tabela de arquivo e os remove da tabela principal, na transação corrente.
+     */
+    void moveToArchive(List<Insurance> insurances);
+
+    /**
+     * Prêmio total dos seguros arquivados por ano-mês do campo de data, calculado no banco.
+     */
+    YearMonthPremiumTotals sumArchivedPremiumByYearMonth(InsuranceDateField dateField);
+
+    /**
+     * Abre um cursor sobre todos os seguros, em ordem de id, com o prêmio calculado no banco.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<InsuranceExportRow> streamExportRows();
 }
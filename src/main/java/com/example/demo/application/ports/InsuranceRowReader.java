@@ -0,0 +1,30 @@
+package com.example.demo.application.ports;
+
+import com.example.demo.domain.model.Insurance;
+
+import java.io.IOException;
+
+/**
+ * Lê seguros um a um de uma fonte em streaming (CSV, NDJSON...), sem carregar o conteúdo inteiro em memória.
+ */
+public interface InsuranceRowReader {
+
+    /**
+     * @return A próxima linha lida, ou {@code null} ao fim da entrada.
+     */
+    Row next() throws IOException;
+
+    /**
+     * Linha lida da entrada: o seguro interpretado ou a mensagem de erro de parsing.
+     */
+    record Row(long line, Insurance insurance, String error) {
+
+        public static Row parsed(long line, Insurance insurance) {
+            return new Row(line, insurance, null);
+        }
+
+        public static Row failed(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+}
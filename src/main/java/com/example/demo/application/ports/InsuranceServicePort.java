@@ -1,18 +1,79 @@
 package com.example.demo.application.ports;
 
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.BatchPremiumResult;
+import com.example.demo.domain.model.BookRepricing;
 import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import com.example.demo.domain.model.PremiumRequest;
+import com.example.demo.domain.model.RatingTable;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.Consumer;
 
 public interface InsuranceServicePort {
     Insurance createInsurance(Insurance insurance);
     Optional<Insurance> getInsuranceById(Long id);
     List<Insurance> getAllInsurances();
+    Optional<Insurance> getInsuranceByPolicyNumber(String policyNumber);
+    Optional<Insurance> getInsuranceById(Long id, boolean includeArchived);
+    Optional<Insurance> getInsuranceByPolicyNumber(String policyNumber, boolean includeArchived);
+    List<InsuranceProjection> getInsurancesPage(Set<InsuranceField> fields, Long afterId, int limit);
+    List<InsuranceProjection> getInsurancesPage(Set<InsuranceField> fields, Long afterId, int limit, boolean includeArchived);
+    List<InsuranceProjection> findInsurancesByHolderNamePrefix(Set<InsuranceField> fields, String prefix, int limit);
+    List<InsuranceProjection> findInsurancesByClaimDateRange(Set<InsuranceField> fields, LocalDate from, LocalDate to, int limit);
+    void streamAllInsurances(int batchSize, Consumer<Insurance> consumer);
+    void exportInsurances(Consumer<InsuranceExportRow> consumer);
     Insurance updateInsurance(Long id, Insurance insurance);
     void deleteInsurance(Long id);
+    List<Insurance> createInsurances(List<Insurance> insurances);
+    List<Insurance> updateInsurances(List<Insurance> insurances);
+    int deleteInsurances(List<Long> ids);
     double calculatePremium(Long id);
+    BatchPremiumResult calculatePremiums(List<PremiumRequest> requests);
+    BookRepricing repriceBook();
+    BookRepricing repriceBook(RatingTable ratingTable);
 
     Map<Integer, Double> calculateTotalPremiumByMonth();
+    Map<Integer, Double> calculateTotalPremiumByMonth(InsuranceDateField dateField, AggregationMode mode);
+    Map<Integer, Double> calculateTotalPremiumByMonth(List<Insurance> insurances, InsuranceDateField dateField, AggregationMode mode);
+    SortedMap<YearMonth, Double> calculateTotalPremiumByYearMonth(InsuranceDateField dateField);
+
+    /**
+     * Variantes das agregações que, com {@code includeArchived}, somam aos totais da carteira ativa os seguros
+     * da tabela de arquivo. Sem a flag contam apenas a carteira ativa.
+     */
+    Map<Integer, Double> calculateTotalPremiumByMonth(InsuranceDateField dateField, AggregationMode mode,
+                                                      boolean includeArchived);
+
+    SortedMap<YearMonth, Double> calculateTotalPremiumByYearMonth(InsuranceDateField dateField, boolean includeArchived);
+    long getInsuranceChangeCount();
+
+    /**
+     * Versão dos dados por trás de {@link #calculateTotalPremiumByMonth(InsuranceDateField, AggregationMode)} e
+     * {@link #calculateTotalPremiumByYearMonth}, para o ETag: o contador de alterações quando a agregação lê o banco
+     * ou o rollup, e a identificação do snapshot quando ela é servida do snapshot colunar. Deve ser lida antes da
+     * agregação, para nunca ser mais nova que o resultado.
+     */
+    String getTotalPremiumByMonthVersion(InsuranceDateField dateField);
+
+    String getTotalPremiumByYearMonthVersion();
+    void rebuildPremiumByMonthRollup();
+
+    /**
+     * Move para o arquivo um lote de até {@code batchSize} seguros vencidos antes de {@code endedBefore}, em uma
+     * transação. Os seguros arquivados saem do rollup e das agregações da carteira ativa, mas continuam somados
+     * nas agregações com {@code includeArchived}. O snapshot colunar é descartado após o commit.
+     * @return Quantidade movida; menor que {@code batchSize} quando não há mais seguros a arquivar.
+     */
+    int archiveInsurancesEndedBefore(LocalDate endedBefore, int batchSize);
 }
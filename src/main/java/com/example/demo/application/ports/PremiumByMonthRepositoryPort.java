@@ -0,0 +1,35 @@
+package com.example.demo.application.ports;
+
+import com.example.demo.domain.model.MonthlyPremium;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PremiumByMonthRepositoryPort {
+
+    /**
+     * Aplica um delta ao total consolidado de um mês.
+     * @param month mês do sinistro (1 a 12).
+     * @param premium valor a somar ao prêmio total (negativo para remover).
+     * @param claimCount quantidade de seguros a somar à contagem do mês (negativo para remover).
+     * @throws org.springframework.dao.IncorrectUpdateSemanticsDataAccessException se a linha do mês não existe (as 12 linhas são criadas em {@code data.sql}).
+     */
+    void addToMonth(int month, double premium, long claimCount);
+
+    /**
+     * Remove do rollup o prêmio atual de um seguro lendo seus valores por subconsulta no próprio banco.
+     * Não faz nada se o seguro não existe ou não possui data de sinistro. A linha do seguro deve estar travada
+     * ({@link InsuranceRepositoryPort#lockById}) para que escritas concorrentes não subtraiam o mesmo prêmio.
+     */
+    void subtractInsurance(Long insuranceId);
+
+    /**
+     * @return Os meses que possuem ao menos um seguro sinistrado, em ordem crescente de mês.
+     */
+    List<MonthlyPremium> findMonthsWithClaims();
+
+    /**
+     * Substitui todo o conteúdo consolidado pelos totais informados; meses ausentes ficam zerados.
+     */
+    void replaceAll(Collection<MonthlyPremium> totals);
+}
@@ -0,0 +1,13 @@
+package com.example.demo.application.ports;
+
+import com.example.demo.domain.model.PremiumKernel;
+import com.example.demo.domain.model.RatingTable;
+
+@FunctionalInterface
+public interface PremiumKernelFactory {
+
+    /**
+     * @return Kernel em lote para a tabela; o padrão é o laço escalar ({@link PremiumKernel#scalar}).
+     */
+    PremiumKernel create(RatingTable ratingTable);
+}
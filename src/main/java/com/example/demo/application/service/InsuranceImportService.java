@@ -0,0 +1,126 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceRowReader;
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.domain.model.ImportReport;
+import com.example.demo.domain.model.Insurance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Importa seguros de uma fonte em streaming, validando linha a linha e gravando em lotes,
+ * cada lote em sua própria transação via {@link InsuranceServicePort#createInsurances(List)}.
+ */
+@RequiredArgsConstructor
+@Service
+public class InsuranceImportService {
+
+    static final int BATCH_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final InsuranceServicePort insuranceService;
+
+    public ImportReport importInsurances(InsuranceRowReader reader) throws IOException {
+        long startNanos = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        List<InsuranceRowReader.Row> batch = new ArrayList<>(BATCH_SIZE);
+
+        InsuranceRowReader.Row row;
+        while ((row = reader.next()) != null) {
+            progress.rowsRead++;
+            String error = row.error() != null ? row.error() : validate(row.insurance());
+            if (error != null) {
+                progress.reject(row.line(), error);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                writeBatch(batch, progress);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, progress);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        double rowsPerSecond = progress.rowsImported * 1000.0 / Math.max(1, elapsedMillis);
+        return new ImportReport(progress.rowsRead, progress.rowsImported, progress.rowsRejected,
+                progress.errors, elapsedMillis, rowsPerSecond);
+    }
+
+    /**
+     * Regras de uma linha importada; também aplicadas na ingestão assíncrona antes de enfileirar.
+     * @return A mensagem de erro de validação, ou {@code null} se o seguro é válido.
+     */
+    public static String validate(Insurance insurance) {
+        if (isBlank(insurance.getPolicyNumber())) {
+            return "policyNumber is required";
+        }
+        if (isBlank(insurance.getHolderName())) {
+            return "holderName is required";
+        }
+        if (insurance.getStartDate() == null || insurance.getEndDate() == null) {
+            return "startDate and endDate are required";
+        }
+        if (insurance.getEndDate().isBefore(insurance.getStartDate())) {
+            return "endDate must not be before startDate";
+        }
+        if (insurance.getInsuredAmount() <= 0) {
+            return "insuredAmount must be positive";
+        }
+        if (insurance.getRiskFactor() <= 0) {
+            return "riskFactor must be positive";
+        }
+        return null;
+    }
+
+    private void writeBatch(List<InsuranceRowReader.Row> batch, ImportProgress progress) {
+        try {
+            insuranceService.createInsurances(batch.stream().map(InsuranceRowReader.Row::insurance).toList());
+            progress.rowsImported += batch.size();
+        } catch (RuntimeException batchFailure) {
+            // O lote inteiro foi desfeito; regrava linha a linha para identificar quais linhas falham
+            for (InsuranceRowReader.Row row : batch) {
+                row.insurance().setId(null);
+                row.insurance().setVersion(null);
+                try {
+                    insuranceService.createInsurance(row.insurance());
+                    progress.rowsImported++;
+                } catch (RuntimeException e) {
+                    progress.reject(row.line(), rootMessage(e));
+                }
+            }
+        }
+    }
+
+    private static String rootMessage(Throwable throwable) {
+        Throwable root = throwable;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static final class ImportProgress {
+        private long rowsRead;
+        private long rowsImported;
+        private long rowsRejected;
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            rowsRejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportReport.RowError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.IngestionStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestão assíncrona de seguros (write-behind). Cada envio entra numa fila limitada em memória e recebe um id de
+ * acompanhamento; uma única thread grava a fila em lotes, um commit por lote, via
+ * {@link InsuranceServicePort#createInsurances}. O lote fecha ao atingir {@code app.ingestion.batch-size} ou
+ * após {@code app.ingestion.max-delay} desde o primeiro item.
+ * <p>
+ * Garantias: um envio aceito só está durável quando sua situação passa a {@code COMPLETED}. Até lá ele existe apenas
+ * na memória desta instância e se perde se o processo cair. No desligamento normal a fila deixa de aceitar envios
+ * e é gravada por inteiro antes de o DataSource fechar. Se um lote falhar (ex.: número de apólice repetido), ele é
+ * regravado item a item, de modo que só os itens inválidos terminam em {@code FAILED}.
+ * <p>
+ * As situações ficam em memória por {@code app.ingestion.status-retention}, limitadas a
+ * {@code app.ingestion.status-max-size} entradas; acima disso as mais antigas são descartadas antes do prazo e
+ * passam a ser consultadas como desconhecidas.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.ingestion.enabled", havingValue = "true")
+public class InsuranceIngestionQueue implements SmartLifecycle {
+
+    private final InsuranceServicePort service;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<PendingInsurance> queue;
+    private final Cache<UUID, IngestionStatus> statuses;
+    private final int batchSize;
+    private final long maxDelayNanos;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public InsuranceIngestionQueue(InsuranceServicePort service, MeterRegistry meterRegistry,
+                                   @Value("${app.ingestion.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${app.ingestion.batch-size:500}") int batchSize,
+                                   @Value("${app.ingestion.max-delay:PT0.05S}") Duration maxDelay,
+                                   @Value("${app.ingestion.status-retention:PT1H}") Duration statusRetention,
+                                   @Value("${app.ingestion.status-max-size:100000}") long statusMaxSize) {
+        this.service = service;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusRetention)
+                .maximumSize(statusMaxSize)
+                .build();
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        Gauge.builder("insurance.ingestion.queue.size", queue, BlockingQueue::size)
+                .description("Seguros aceitos aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira o seguro sem bloquear.
+     * @return A situação {@code QUEUED} com o id de acompanhamento, ou vazio se a fila estiver cheia ou parada.
+     */
+    public Optional<IngestionStatus> submit(Insurance insurance) {
+        if (!running) {
+            return Optional.empty();
+        }
+        IngestionStatus status = IngestionStatus.queued(UUID.randomUUID());
+        // Registrada antes de enfileirar para que a thread de gravação nunca conclua um id ainda desconhecido
+        statuses.put(status.trackingId(), status);
+        if (!queue.offer(new PendingInsurance(status.trackingId(), insurance))) {
+            statuses.invalidate(status.trackingId());
+            meterRegistry.counter("insurance.ingestion.rejected").increment();
+            return Optional.empty();
+        }
+        return Optional.of(status);
+    }
+
+    /**
+     * @return A situação do envio, ou vazio se o id for desconhecido, já tiver expirado
+     * ({@code app.ingestion.status-retention}) ou tiver sido descartado pelo limite {@code app.ingestion.status-max-size}.
+     */
+    public Optional<IngestionStatus> getStatus(UUID trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "insurance-ingestion-writer");
+        writer.start();
+    }
+
+    /**
+     * Para de aceitar envios e aguarda a gravação de tudo o que já estava na fila.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Envios que chegaram entre a parada e o fim da thread de gravação
+        List<PendingInsurance> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        write(remaining);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web, que deixa de receber requisições primeiro, e antes do DataSource fechar.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<PendingInsurance> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsurance first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException e) {
+                // Interrompida: grava o que restou sem esperar e encerra
+                queue.drainTo(batch);
+                write(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Completa o lote com o que já está na fila e, se ainda couber, espera por mais itens até o prazo do lote.
+     */
+    private void fill(List<PendingInsurance> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingInsurance next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingInsurance> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        meterRegistry.summary("insurance.ingestion.batch.size").record(batch.size());
+        try {
+            List<Insurance> saved = service.createInsurances(batch.stream().map(PendingInsurance::insurance).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                statuses.put(batch.get(i).trackingId(), IngestionStatus.completed(batch.get(i).trackingId(), saved.get(i).getId()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ingestion batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeAlone);
+        }
+    }
+
+    private void writeAlone(PendingInsurance pending) {
+        Insurance insurance = pending.insurance();
+        // O lote que falhou pode ter atribuído id às entidades antes do rollback
+        insurance.setId(null);
+        insurance.setVersion(null);
+        try {
+            Insurance saved = service.createInsurance(insurance);
+            statuses.put(pending.trackingId(), IngestionStatus.completed(pending.trackingId(), saved.getId()));
+        } catch (DataIntegrityViolationException e) {
+            statuses.put(pending.trackingId(), IngestionStatus.failed(pending.trackingId(), "Data integrity violation"));
+        } catch (RuntimeException e) {
+            log.error("Ingestion of {} failed", pending.trackingId(), e);
+            statuses.put(pending.trackingId(), IngestionStatus.failed(pending.trackingId(), "Write failed"));
+        }
+    }
+
+    private record PendingInsurance(UUID trackingId, Insurance insurance) {
+    }
+}
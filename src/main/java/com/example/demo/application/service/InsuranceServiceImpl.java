@@ -1,59 +1,285 @@
 package com.example.demo.application.service;
 
 
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.BatchPremiumResult;
+import com.example.demo.domain.model.BookRepricing;
 import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import com.example.demo.domain.model.MonthlyPremium;
+import com.example.demo.domain.model.MonthlyPremiumTotals;
+import com.example.demo.domain.model.PortfolioSnapshot;
+import com.example.demo.domain.model.PremiumRequest;
+import com.example.demo.domain.model.RatingTable;
+import com.example.demo.domain.model.YearMonthPremiumTotals;
+import com.example.demo.application.ports.ChangeCounterRepositoryPort;
 import com.example.demo.application.ports.InsuranceRepositoryPort;
 import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.application.ports.PremiumByMonthRepositoryPort;
+import com.example.demo.application.ports.PremiumKernelFactory;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
+@Timed("insurance.service")
 public class InsuranceServiceImpl implements InsuranceServicePort {
 
+    public static final String INSURANCE_CACHE = "insurances";
+    public static final String PREMIUM_CACHE = "premiums";
+    public static final String INSURANCE_TABLE = "insurance";
+    private static final int AGGREGATION_BATCH_SIZE = 1000;
+    private static final int PARALLEL_AGGREGATION_BATCH_SIZE = 50_000;
+
     @Autowired
     private final InsuranceRepositoryPort repository;
 
+    @Autowired
+    private final PremiumByMonthRepositoryPort premiumByMonthRepository;
+
+    @Autowired
+    private final ChangeCounterRepositoryPort changeCounterRepository;
+
+    @Autowired
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    private final RatingTable ratingTable;
+
+    @Autowired
+    private final PremiumKernelFactory premiumKernelFactory;
+
+    /** Presente apenas com {@code app.snapshot.enabled=true}. */
+    @Autowired(required = false)
+    private PortfolioSnapshotService portfolioSnapshotService;
+
     @Override
+    @Transactional
     public Insurance createInsurance(Insurance insurance) {
-        return repository.save(insurance);
+        Insurance saved = repository.save(insurance);
+        applyToPremiumRollup(saved.getClaimDate(), saved.calculatePremium(), 1);
+        recordTableChange();
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = INSURANCE_CACHE, key = "#id", unless = "#result == null")
     public Optional<Insurance> getInsuranceById(Long id) {
         return repository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Insurance> getAllInsurances() {
-        return repository.findAll();
+        List<Insurance> insurances = repository.findAll();
+        recordRowsReturned("findAll", insurances.size());
+        return insurances;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Insurance> getInsuranceByPolicyNumber(String policyNumber) {
+        return repository.findByPolicyNumber(policyNumber);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Insurance> getInsuranceById(Long id, boolean includeArchived) {
+        return repository.findById(id, includeArchived);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Insurance> getInsuranceByPolicyNumber(String policyNumber, boolean includeArchived) {
+        return repository.findByPolicyNumber(policyNumber, includeArchived);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InsuranceProjection> getInsurancesPage(Set<InsuranceField> fields, Long afterId, int limit) {
+        List<InsuranceProjection> page = repository.findFieldsPageAfter(fields, afterId, limit);
+        recordRowsReturned("findFieldsPageAfter", page.size());
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InsuranceProjection> getInsurancesPage(Set<InsuranceField> fields, Long afterId, int limit,
+                                                      boolean includeArchived) {
+        List<InsuranceProjection> page = repository.findFieldsPageAfter(fields, afterId, limit, includeArchived);
+        recordRowsReturned("findFieldsPageAfter", page.size());
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InsuranceProjection> findInsurancesByHolderNamePrefix(Set<InsuranceField> fields, String prefix, int limit) {
+        List<InsuranceProjection> insurances = repository.findFieldsByHolderNamePrefix(fields, prefix, limit);
+        recordRowsReturned("findFieldsByHolderNamePrefix", insurances.size());
+        return insurances;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InsuranceProjection> findInsurancesByClaimDateRange(Set<InsuranceField> fields, LocalDate from,
+                                                                    LocalDate to, int limit) {
+        List<InsuranceProjection> insurances = repository.findFieldsByClaimDateRange(fields, from, to, limit);
+        recordRowsReturned("findFieldsByClaimDateRange", insurances.size());
+        return insurances;
     }
 
     @Override
+    public void streamAllInsurances(int batchSize, Consumer<Insurance> consumer) {
+        forEachPage(batchSize, batch -> batch.forEach(consumer));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportInsurances(Consumer<InsuranceExportRow> consumer) {
+        try (Stream<InsuranceExportRow> rows = repository.streamExportRows()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = INSURANCE_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = PREMIUM_CACHE, key = "#id")
+    })
     public Insurance updateInsurance(Long id, Insurance insurance) {
-        if (repository.findById(id).isPresent()) {
-            insurance.setId(id);
-            return repository.save(insurance);
+        // Com a linha travada, duas escritas concorrentes não subtraem o mesmo prêmio antigo do rollup
+        Long lockedVersion = repository.lockById(id)
+                .orElseThrow(() -> new RuntimeException("Insurance not found"));
+        // O prêmio antigo sai do rollup por subconsulta no banco, sem carregar a entidade
+        premiumByMonthRepository.subtractInsurance(id);
+        insurance.setId(id);
+        if (repository.updateIfVersionMatches(insurance) == 0) {
+            if (insurance.getVersion() != null && repository.existsById(id)) {
+                throw new OptimisticLockingFailureException("Insurance was modified concurrently");
+            }
+            throw new RuntimeException("Insurance not found");
         }
-        throw new RuntimeException("Insurance not found");
+        applyToPremiumRollup(insurance.getClaimDate(), insurance.calculatePremium(), 1);
+        recordTableChange();
+        // Sem versão no corpo a escrita não é condicional, mas a linha travada ainda teve a versão incrementada
+        insurance.setVersion(lockedVersion + 1);
+        return insurance;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = INSURANCE_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = PREMIUM_CACHE, key = "#id")
+    })
     public void deleteInsurance(Long id) {
-        if (repository.findById(id).isPresent()) {
-            repository.deleteById(id);
+        if (repository.lockById(id).isEmpty()) {
+            throw new RuntimeException("Insurance not found");
         }
-        else{
+        premiumByMonthRepository.subtractInsurance(id);
+        if (repository.deleteByIdReturningCount(id) == 0) {
             throw new RuntimeException("Insurance not found");
         }
+        recordTableChange();
+    }
+
+    @Override
+    @Transactional
+    public List<Insurance> createInsurances(List<Insurance> insurances) {
+        insurances.forEach(insurance -> {
+            insurance.setId(null);
+            insurance.setVersion(null);
+        });
+        List<Insurance> saved = repository.saveAllInBatch(insurances);
+        PremiumRollupDelta delta = new PremiumRollupDelta();
+        saved.forEach(insurance -> delta.add(insurance.getClaimDate(), insurance.calculatePremium(), 1));
+        delta.applyTo(premiumByMonthRepository);
+        recordTableChange();
+        return saved;
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = {INSURANCE_CACHE, PREMIUM_CACHE}, allEntries = true)
+    public List<Insurance> updateInsurances(List<Insurance> insurances) {
+        List<Long> ids = insurances.stream().map(Insurance::getId).toList();
+        if (ids.contains(null)) {
+            throw new RuntimeException("Insurance id is required");
+        }
+        // Uma única consulta IN carrega o estado antigo; as alterações são aplicadas nas entidades gerenciadas
+        List<Insurance> existing = repository.findAllByIdForUpdate(ids);
+        if (existing.size() != new HashSet<>(ids).size()) {
+            throw new RuntimeException("Insurance not found");
+        }
+        Map<Long, Insurance> changesById = new HashMap<>();
+        insurances.forEach(insurance -> changesById.put(insurance.getId(), insurance));
+        PremiumRollupDelta delta = new PremiumRollupDelta();
+        for (Insurance current : existing) {
+            Insurance changes = changesById.get(current.getId());
+            if (changes.getVersion() != null && !changes.getVersion().equals(current.getVersion())) {
+                throw new OptimisticLockingFailureException("Insurance was modified concurrently");
+            }
+            delta.add(current.getClaimDate(), -current.calculatePremium(), -1);
+            copyFields(changes, current);
+            delta.add(current.getClaimDate(), current.calculatePremium(), 1);
+        }
+        List<Insurance> saved = repository.saveAllInBatch(existing);
+        delta.applyTo(premiumByMonthRepository);
+        recordTableChange();
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {INSURANCE_CACHE, PREMIUM_CACHE}, allEntries = true)
+    public int deleteInsurances(List<Long> ids) {
+        // Linhas travadas: uma atualização concorrente espera o commit, então o prêmio subtraído é o que sai
+        List<Insurance> existing = repository.findAllByIdForUpdate(ids);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        List<Long> existingIds = existing.stream().map(Insurance::getId).toList();
+        repository.deleteAllByIdInBatch(existingIds);
+        PremiumRollupDelta delta = new PremiumRollupDelta();
+        existing.forEach(insurance -> delta.add(insurance.getClaimDate(), -insurance.calculatePremium(), -1));
+        delta.applyTo(premiumByMonthRepository);
+        recordTableChange();
+        return existing.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = PREMIUM_CACHE, key = "#id")
     public double calculatePremium(Long id) {
         return repository.findById(id)
                 .map(Insurance::calculatePremium)
@@ -61,8 +287,279 @@ public class InsuranceServiceImpl implements InsuranceServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public BatchPremiumResult calculatePremiums(List<PremiumRequest> requests) {
+        // Um único SELECT ... IN para todos os ids, em vez de um findById por prêmio
+        List<Long> ids = requests.stream().map(PremiumRequest::id).distinct().toList();
+        Map<Long, Insurance> insurancesById = new HashMap<>();
+        repository.findAllById(ids).forEach(insurance -> insurancesById.put(insurance.getId(), insurance));
+        recordRowsReturned("findAllById", insurancesById.size());
+
+        List<BatchPremiumResult.Quote> premiums = new ArrayList<>(requests.size());
+        for (PremiumRequest request : requests) {
+            Insurance insurance = insurancesById.get(request.id());
+            if (insurance == null) {
+                continue;
+            }
+            double insuredAmount = request.insuredAmount() != null ? request.insuredAmount() : insurance.getInsuredAmount();
+            double riskFactor = request.riskFactor() != null ? request.riskFactor() : insurance.getRiskFactor();
+            premiums.add(new BatchPremiumResult.Quote(request.id(), insurance.calculatePremium(insuredAmount, riskFactor)));
+        }
+        List<Long> notFound = ids.stream().filter(id -> !insurancesById.containsKey(id)).toList();
+        return new BatchPremiumResult(premiums, notFound);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookRepricing repriceBook() {
+        return repriceBook(ratingTable);
+    }
+
+    /**
+     * Retarifa a carteira inteira pelo kernel em lote sobre as colunas do snapshot. Sem snapshot carregado,
+     * monta um temporário a partir do cursor de exportação, sem entidades gerenciadas.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BookRepricing repriceBook(RatingTable ratingTable) {
+        PortfolioSnapshot snapshot = currentSnapshot().orElseGet(() -> {
+            PortfolioSnapshot.Builder builder = PortfolioSnapshot.builder();
+            try (Stream<InsuranceExportRow> rows = repository.streamExportRows()) {
+                rows.forEach(builder::add);
+            }
+            return builder.build();
+        });
+        recordRowsReturned("repriceBook", snapshot.size());
+        return snapshot.reprice(premiumKernelFactory.create(ratingTable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Map<Integer, Double> calculateTotalPremiumByMonth() {
-        List<Insurance> allInsurances = repository.findAll();
-        return Insurance.calculateTotalPremiumByMonth(allInsurances);
+        Map<Integer, Double> monthlyPremiums = new LinkedHashMap<>();
+        for (MonthlyPremium row : premiumByMonthRepository.findMonthsWithClaims()) {
+            monthlyPremiums.put(row.month(), row.totalPremium());
+        }
+        return monthlyPremiums;
+    }
+
+    @Override
+    public Map<Integer, Double> calculateTotalPremiumByMonth(InsuranceDateField dateField, AggregationMode mode) {
+        if (dateField == InsuranceDateField.CLAIM_DATE) {
+            return calculateTotalPremiumByMonth();
+        }
+        Optional<PortfolioSnapshot> snapshot = currentSnapshot();
+        if (snapshot.isPresent()) {
+            recordAggregationInput(mode, snapshot.get().size());
+            return snapshot.get().totalPremiumByMonth(dateField).toMap();
+        }
+        MonthlyPremiumTotals totals = new MonthlyPremiumTotals(dateField);
+        long inputSize;
+        if (mode == AggregationMode.PARALLEL) {
+            inputSize = forEachPage(PARALLEL_AGGREGATION_BATCH_SIZE,
+                    batch -> totals.merge(MonthlyPremiumTotals.of(batch, dateField, AggregationMode.PARALLEL)));
+        } else {
+            inputSize = forEachPage(AGGREGATION_BATCH_SIZE, batch -> batch.forEach(totals::add));
+        }
+        recordAggregationInput(mode, inputSize);
+        return totals.toMap();
+    }
+
+    @Override
+    public Map<Integer, Double> calculateTotalPremiumByMonth(List<Insurance> insurances, InsuranceDateField dateField,
+                                                             AggregationMode mode) {
+        recordAggregationInput(mode, insurances.size());
+        return MonthlyPremiumTotals.of(insurances, dateField, mode).toMap();
+    }
+
+    @Override
+    public SortedMap<YearMonth, Double> calculateTotalPremiumByYearMonth(InsuranceDateField dateField) {
+        Optional<PortfolioSnapshot> snapshot = currentSnapshot();
+        if (snapshot.isPresent()) {
+            recordAggregationInput(AggregationMode.SEQUENTIAL, snapshot.get().size());
+            return snapshot.get().totalPremiumByYearMonth(dateField).toMap();
+        }
+        YearMonthPremiumTotals totals = new YearMonthPremiumTotals(dateField);
+        long inputSize = forEachPage(AGGREGATION_BATCH_SIZE, batch -> batch.forEach(totals::add));
+        recordAggregationInput(AggregationMode.SEQUENTIAL, inputSize);
+        return totals.toMap();
+    }
+
+    @Override
+    public Map<Integer, Double> calculateTotalPremiumByMonth(InsuranceDateField dateField, AggregationMode mode,
+                                                             boolean includeArchived) {
+        Map<Integer, Double> active = calculateTotalPremiumByMonth(dateField, mode);
+        if (!includeArchived) {
+            return active;
+        }
+        Map<Integer, Double> totals = new TreeMap<>(active);
+        repository.sumArchivedPremiumByYearMonth(dateField).toMap()
+                .forEach((yearMonth, premium) -> totals.merge(yearMonth.getMonthValue(), premium, Double::sum));
+        return totals;
+    }
+
+    @Override
+    public SortedMap<YearMonth, Double> calculateTotalPremiumByYearMonth(InsuranceDateField dateField,
+                                                                         boolean includeArchived) {
+        SortedMap<YearMonth, Double> active = calculateTotalPremiumByYearMonth(dateField);
+        if (!includeArchived) {
+            return active;
+        }
+        SortedMap<YearMonth, Double> totals = new TreeMap<>(active);
+        repository.sumArchivedPremiumByYearMonth(dateField).toMap().forEach((yearMonth, premium) ->
+                totals.merge(yearMonth, premium, Double::sum));
+        return totals;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getInsuranceChangeCount() {
+        return changeCounterRepository.getChangeCount(INSURANCE_TABLE);
+    }
+
+    @Override
+    public String getTotalPremiumByMonthVersion(InsuranceDateField dateField) {
+        // Por data de sinistro o total sai do rollup, sempre atual
+        return dateField == InsuranceDateField.CLAIM_DATE
+                ? String.valueOf(getInsuranceChangeCount())
+                : getTotalPremiumByYearMonthVersion();
+    }
+
+    @Override
+    public String getTotalPremiumByYearMonthVersion() {
+        // O snapshot é trocado por inteiro a cada carga; o instante da carga identifica o conteúdo servido
+        return currentSnapshot()
+                .map(snapshot -> "snapshot-" + snapshot.getCreatedAt().toEpochMilli())
+                .orElseGet(() -> String.valueOf(getInsuranceChangeCount()));
+    }
+
+    @Override
+    @Transactional
+    public void rebuildPremiumByMonthRollup() {
+        premiumByMonthRepository.replaceAll(repository.sumPremiumByClaimMonth());
+        // Os totais por mês mudam; um ETag anterior à reconstrução não pode continuar gerando 304
+        recordTableChange();
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {INSURANCE_CACHE, PREMIUM_CACHE}, allEntries = true)
+    public int archiveInsurancesEndedBefore(LocalDate endedBefore, int batchSize) {
+        List<Insurance> expired = repository.findEndedBefore(endedBefore, batchSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        PremiumRollupDelta delta = new PremiumRollupDelta();
+        expired.forEach(insurance -> delta.add(insurance.getClaimDate(), -insurance.calculatePremium(), -1));
+        repository.moveToArchive(expired);
+        delta.applyTo(premiumByMonthRepository);
+        recordTableChange();
+        discardSnapshotAfterCommit();
+        meterRegistry.counter("insurance.archive.moved").increment(expired.size());
+        return expired.size();
+    }
+
+    /**
+     * Descarta o snapshot quando a transação corrente confirmar; até a próxima carga as agregações leem do banco.
+     * Sem transação ativa, descarta na hora.
+     */
+    private void discardSnapshotAfterCommit() {
+        if (portfolioSnapshotService == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            portfolioSnapshotService.discard();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                portfolioSnapshotService.discard();
+            }
+        });
+    }
+
+    /**
+     * Snapshot colunar já carregado, quando habilitado. As agregações que o usam não vão ao banco.
+     */
+    private Optional<PortfolioSnapshot> currentSnapshot() {
+        return portfolioSnapshotService == null ? Optional.empty() : portfolioSnapshotService.getSnapshot();
+    }
+
+    /**
+     * Percorre a tabela inteira em páginas por id.
+     * Não abre transação de propósito: cada página é lida em sua própria transação somente leitura no repositório,
+     * de modo que o contexto de persistência é descartado a cada página em vez de acumular a tabela inteira.
+     * @return Quantidade total de seguros lidos.
+     */
+    private long forEachPage(int batchSize, Consumer<List<Insurance>> consumer) {
+        Long cursor = null;
+        long rows = 0;
+        List<Insurance> batch;
+        do {
+            batch = repository.findPageAfter(cursor, batchSize);
+            recordRowsReturned("findPageAfter", batch.size());
+            rows += batch.size();
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+                cursor = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+        return rows;
+    }
+
+    /**
+     * Incrementa o contador de alterações da tabela de seguros. Fica por último em cada escrita para que o lock
+     * da linha do contador seja mantido só até o commit.
+     */
+    private void recordTableChange() {
+        changeCounterRepository.increment(INSURANCE_TABLE);
+    }
+
+    private void recordRowsReturned(String operation, int rows) {
+        meterRegistry.summary("insurance.repository.rows", "operation", operation).record(rows);
+    }
+
+    private void recordAggregationInput(AggregationMode mode, long inputSize) {
+        meterRegistry.summary("insurance.aggregation.input.size", "mode", mode.name()).record(inputSize);
+    }
+
+    private static void copyFields(Insurance source, Insurance target) {
+        target.setPolicyNumber(source.getPolicyNumber());
+        target.setHolderName(source.getHolderName());
+        target.setStartDate(source.getStartDate());
+        target.setEndDate(source.getEndDate());
+        target.setClaimDate(source.getClaimDate());
+        target.setInsuredAmount(source.getInsuredAmount());
+        target.setRiskFactor(source.getRiskFactor());
+    }
+
+    private void applyToPremiumRollup(LocalDate claimDate, double premium, long claimCount) {
+        if (claimDate != null) {
+            premiumByMonthRepository.addToMonth(claimDate.getMonthValue(), premium, claimCount);
+        }
+    }
+
+    /**
+     * Acumula os deltas de uma operação em lote para aplicar no máximo uma atualização por mês no rollup.
+     */
+    private static final class PremiumRollupDelta {
+        private final double[] premiums = new double[12];
+        private final long[] claimCounts = new long[12];
+
+        void add(LocalDate claimDate, double premium, long claimCount) {
+            if (claimDate != null) {
+                premiums[claimDate.getMonthValue() - 1] += premium;
+                claimCounts[claimDate.getMonthValue() - 1] += claimCount;
+            }
+        }
+
+        void applyTo(PremiumByMonthRepositoryPort premiumByMonthRepository) {
+            for (int month = 1; month <= 12; month++) {
+                if (claimCounts[month - 1] != 0 || premiums[month - 1] != 0.0) {
+                    premiumByMonthRepository.addToMonth(month, premiums[month - 1], claimCounts[month - 1]);
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,89 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.example.demo.domain.model.PortfolioSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Mantém o {@link PortfolioSnapshot} da carteira, recarregado por inteiro a cada
+ * {@code app.snapshot.refresh-interval}. As agregações que o usam refletem o banco no momento da última carga.
+ * Antes da primeira carga {@link #getSnapshot()} fica vazio e os chamadores voltam a ler do banco.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+public class PortfolioSnapshotService {
+
+    private final InsuranceRepositoryPort repository;
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile PortfolioSnapshot snapshot;
+
+    /** Incrementado a cada {@link #discard()}; uma carga iniciada antes do descarte não é publicada. */
+    private final AtomicLong discards = new AtomicLong();
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("insurance.snapshot.rows", this, service -> service.getSnapshot()
+                        .map(PortfolioSnapshot::size).orElse(0))
+                .description("Seguros no snapshot colunar")
+                .register(meterRegistry);
+        Gauge.builder("insurance.snapshot.memory", this, service -> service.getSnapshot()
+                        .map(current -> current.footprint().totalBytes()).orElse(0L))
+                .description("Memória estimada do snapshot colunar")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lê a carteira em cursor, sem entidades gerenciadas, e troca o snapshot atual de uma vez ao final.
+     * Leituras concorrentes continuam usando o snapshot anterior até a troca.
+     */
+    @Scheduled(fixedDelayString = "${app.snapshot.refresh-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public PortfolioSnapshot refresh() {
+        long start = System.nanoTime();
+        long discardsAtStart = discards.get();
+        PortfolioSnapshot.Builder builder = PortfolioSnapshot.builder();
+        try (Stream<InsuranceExportRow> rows = repository.streamExportRows()) {
+            rows.forEach(builder::add);
+        }
+        PortfolioSnapshot refreshed = builder.build();
+        synchronized (this) {
+            if (discards.get() == discardsAtStart) {
+                snapshot = refreshed;
+            }
+        }
+        log.debug("Portfolio snapshot refreshed: {} rows, {} bytes in {} ms", refreshed.size(),
+                refreshed.footprint().totalBytes(), (System.nanoTime() - start) / 1_000_000);
+        return refreshed;
+    }
+
+    /**
+     * Descarta o snapshot atual após uma mudança em massa na carteira (arquivamento); até a próxima carga
+     * {@link #getSnapshot()} fica vazio e os chamadores voltam a ler do banco.
+     */
+    public synchronized void discard() {
+        discards.incrementAndGet();
+        snapshot = null;
+    }
+
+    public Optional<PortfolioSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.domain.model;
+
+/**
+ * Modo de execução das agregações de prêmio em memória.
+ */
+public enum AggregationMode {
+    SEQUENTIAL,
+    /** Divide a entrada em blocos de tamanho fixo processados em fork/join; o resultado não depende da quantidade de threads. */
+    PARALLEL
+}
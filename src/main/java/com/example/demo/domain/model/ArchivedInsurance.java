@@ -0,0 +1,84 @@
+package com.example.demo.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Seguro vencido movido para a tabela de arquivo. Mantém o id e a versão originais, de modo que as buscas com
+ * {@code includeArchived} devolvem o mesmo seguro que existia na tabela principal.
+ */
+@Entity
+@Table(name = "insurance_archive", indexes = {
+        @Index(name = "ix_insurance_archive_policy_number", columnList = "policyNumber")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Builder
+public class ArchivedInsurance {
+
+    @Id
+    private Long id;
+
+    private Long version;
+
+    @Column(nullable = false)
+    private String policyNumber;
+
+    @Column(nullable = false)
+    private String holderName;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = true)
+    private LocalDate claimDate;
+
+    @Column(nullable = false)
+    private double insuredAmount;
+
+    @Column(nullable = false)
+    private double riskFactor;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    public static ArchivedInsurance of(Insurance insurance, Instant archivedAt) {
+        return ArchivedInsurance.builder()
+                .id(insurance.getId())
+                .version(insurance.getVersion())
+                .policyNumber(insurance.getPolicyNumber())
+                .holderName(insurance.getHolderName())
+                .startDate(insurance.getStartDate())
+                .endDate(insurance.getEndDate())
+                .claimDate(insurance.getClaimDate())
+                .insuredAmount(insurance.getInsuredAmount())
+                .riskFactor(insurance.getRiskFactor())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    /**
+     * @return Uma cópia desanexada como {@link Insurance}, para as respostas da API não mudarem de formato.
+     */
+    public Insurance toInsurance() {
+        return Insurance.builder()
+                .id(id)
+                .version(version)
+                .policyNumber(policyNumber)
+                .holderName(holderName)
+                .startDate(startDate)
+                .endDate(endDate)
+                .claimDate(claimDate)
+                .insuredAmount(insuredAmount)
+                .riskFactor(riskFactor)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.domain.model;
+
+import java.util.List;
+
+/**
+ * Resultado do cálculo de prêmios em lote.
+ * @param premiums um prêmio por pedido atendido, na ordem dos pedidos.
+ * @param notFound ids pedidos que não existem, sem repetição.
+ */
+public record BatchPremiumResult(List<Quote> premiums, List<Long> notFound) {
+
+    public record Quote(Long id, double premium) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.domain.model;
+
+/**
+ * Resultado da simulação de retarifação da carteira inteira: prêmio total atual, prêmio total pela nova tabela e
+ * o tempo gasto apenas no cálculo em lote. Nenhum prêmio servido é alterado.
+ */
+public record BookRepricing(int policies, double currentTotalPremium, double repricedTotalPremium, String kernel,
+                            long pricingMicros) {
+}
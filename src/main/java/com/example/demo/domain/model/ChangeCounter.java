@@ -0,0 +1,25 @@
+package com.example.demo.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Contador de alterações de uma tabela, incrementado na mesma transação de cada escrita.
+ * Serve de versão da tabela inteira, por exemplo para o ETag das agregações. A linha de cada tabela é criada em
+ * {@code data.sql}, de modo que as escritas concorrentes só fazem UPDATE.
+ */
+@Entity
+@Table(name = "change_counter")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Builder
+public class ChangeCounter {
+
+    @Id
+    private String tableName;
+
+    @Column(nullable = false)
+    private long changeCount;
+}
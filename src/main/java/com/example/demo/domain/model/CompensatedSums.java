@@ -0,0 +1,27 @@
+package com.example.demo.domain.model;
+
+/**
+ * Soma compensada (Kahan-Neumaier) sobre baldes em arrays primitivos, sem boxing.
+ */
+final class CompensatedSums {
+
+    private CompensatedSums() {
+    }
+
+    static void add(double[] sums, double[] compensations, int bucket, double value) {
+        double sum = sums[bucket];
+        double next = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensations[bucket] += (sum - next) + value;
+        } else {
+            compensations[bucket] += (value - next) + sum;
+        }
+        sums[bucket] = next;
+    }
+
+    static void merge(double[] sums, double[] compensations, double[] otherSums, double[] otherCompensations,
+                      int bucket, int otherBucket) {
+        add(sums, compensations, bucket, otherSums[otherBucket]);
+        compensations[bucket] += otherCompensations[otherBucket];
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.domain.model;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em massa de seguros.
+ * @param errors erros por linha, limitados às primeiras ocorrências; {@code rowsRejected} traz o total.
+ */
+public record ImportReport(long rowsRead, long rowsImported, long rowsRejected, List<RowError> errors,
+                           long elapsedMillis, double rowsPerSecond) {
+
+    public record RowError(long line, String message) {
+    }
+}
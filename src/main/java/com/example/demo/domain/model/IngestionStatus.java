@@ -0,0 +1,28 @@
+package com.example.demo.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Situação de um seguro enviado à ingestão assíncrona. {@code insuranceId} só existe em {@link State#COMPLETED}
+ * e {@code error} só em {@link State#FAILED}.
+ */
+public record IngestionStatus(UUID trackingId, State state, Long insuranceId, String error) {
+
+    public enum State {
+        QUEUED,
+        COMPLETED,
+        FAILED
+    }
+
+    public static IngestionStatus queued(UUID trackingId) {
+        return new IngestionStatus(trackingId, State.QUEUED, null, null);
+    }
+
+    public static IngestionStatus completed(UUID trackingId, Long insuranceId) {
+        return new IngestionStatus(trackingId, State.COMPLETED, insuranceId, null);
+    }
+
+    public static IngestionStatus failed(UUID trackingId, String error) {
+        return new IngestionStatus(trackingId, State.FAILED, null, error);
+    }
+}
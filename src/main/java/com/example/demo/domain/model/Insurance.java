@@ -4,13 +4,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Entity
-@Table(name = "insurance")
+@Table(name = "insurance", indexes = {
+        @Index(name = "ux_insurance_policy_number", columnList = "policyNumber", unique = true),
+        @Index(name = "ix_insurance_holder_name", columnList = "holderName"),
+        @Index(name = "ix_insurance_claim_date", columnList = "claimDate"),
+        @Index(name = "ix_insurance_end_date", columnList = "endDate")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,10 +21,17 @@ import java.util.concurrent.ConcurrentHashMap;
 @Builder
 public class Insurance {
 
+    /** Taxa aplicada sobre o valor segurado ajustado pelo fator de risco. */
+    public static final double PREMIUM_RATE = 0.05;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "insurance_seq")
+    @SequenceGenerator(name = "insurance_seq", sequenceName = "insurance_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String policyNumber;
 
@@ -48,31 +58,17 @@ public class Insurance {
      * @return Valor do prêmio do seguro.
      */
     public double calculatePremium() {
-        return insuredAmount * riskFactor * 0.05; // Fórmula fictícia
+        return insuredAmount * riskFactor * PREMIUM_RATE; // Fórmula fictícia
     }
     public double calculatePremium(double insuredAmount, double riskFactor) {
-        return insuredAmount * riskFactor * 0.05; // Fórmula fictícia
+        return insuredAmount * riskFactor * PREMIUM_RATE; // Fórmula fictícia
     }
 
+    /**
+     * Calcula o prêmio total por mês da data de sinistro (claimDate), ignorando seguros sem sinistro.
+     * @return Mapa mês (1 a 12) para prêmio total, apenas com os meses que possuem sinistros.
+     */
     public static Map<Integer, Double> calculateTotalPremiumByMonth(List<Insurance> allInsurances) {
-        // Cria um mapa para armazenar a somatória do prêmio por mês
-        Map<Integer, Double> monthlyPremiums = new ConcurrentHashMap<>();
-
-        // Itera sobre todos os seguros
-        for (Insurance insurance : allInsurances) {
-            // Verifica se o seguro tem uma data de sinistro (claimDate)
-            if (insurance.getClaimDate() != null) {
-                // Obtém o mês do claimDate
-                int month = insurance.getClaimDate().getMonthValue();
-
-                // Calcula o prêmio do seguro
-                double premium = insurance.calculatePremium(insurance.getInsuredAmount(), insurance.getRiskFactor());
-
-                // Adiciona o prêmio ao total do mês correspondente
-                monthlyPremiums.merge(month, premium, Double::sum);  // Atualiza o valor do mês somando o prêmio
-            }
-        }
-        // Retorna o mapa contendo o prêmio total por mês
-        return monthlyPremiums;
+        return MonthlyPremiumTotals.of(allInsurances, InsuranceDateField.CLAIM_DATE).toMap();
     }
 }
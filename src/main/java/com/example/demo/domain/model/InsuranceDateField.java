@@ -0,0 +1,23 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Campo de data de {@link Insurance} usado como chave nas agregações de prêmio.
+ */
+public enum InsuranceDateField {
+    START_DATE(Insurance::getStartDate),
+    END_DATE(Insurance::getEndDate),
+    CLAIM_DATE(Insurance::getClaimDate);
+
+    private final Function<Insurance, LocalDate> accessor;
+
+    InsuranceDateField(Function<Insurance, LocalDate> accessor) {
+        this.accessor = accessor;
+    }
+
+    public LocalDate valueOf(Insurance insurance) {
+        return accessor.apply(insurance);
+    }
+}
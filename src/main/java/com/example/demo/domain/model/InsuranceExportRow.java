@@ -0,0 +1,12 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção somente leitura de um seguro com o prêmio já calculado, usada na exportação.
+ * Por não ser uma entidade gerenciada, não ocupa o contexto de persistência durante a leitura em cursor.
+ */
+public record InsuranceExportRow(Long id, String policyNumber, String holderName, LocalDate startDate,
+                                 LocalDate endDate, LocalDate claimDate, double insuredAmount, double riskFactor,
+                                 double premium) {
+}
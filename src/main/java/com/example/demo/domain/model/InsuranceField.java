@@ -0,0 +1,73 @@
+package com.example.demo.domain.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campo de {@link Insurance} que pode ser selecionado nas projeções de leitura ({@code fields=}).
+ * O {@link #ID} é sempre incluído, pois é o cursor da paginação.
+ */
+public enum InsuranceField {
+    ID("id", "i.id"),
+    VERSION("version", "i.version"),
+    POLICY_NUMBER("policyNumber", "i.policyNumber"),
+    HOLDER_NAME("holderName", "i.holderName"),
+    START_DATE("startDate", "i.startDate"),
+    END_DATE("endDate", "i.endDate"),
+    CLAIM_DATE("claimDate", "i.claimDate"),
+    INSURED_AMOUNT("insuredAmount", "i.insuredAmount"),
+    RISK_FACTOR("riskFactor", "i.riskFactor"),
+    PREMIUM("premium", "i.insuredAmount * i.riskFactor * " + Insurance.PREMIUM_RATE);
+
+    /**
+     * Campos retornados quando nenhum {@code fields=} é informado: as colunas persistidas, sem o prêmio.
+     */
+    public static final Set<InsuranceField> DEFAULT = EnumSet.range(ID, RISK_FACTOR);
+
+    private final String name;
+    private final String expression;
+
+    InsuranceField(String name, String expression) {
+        this.name = name;
+        this.expression = expression;
+    }
+
+    /**
+     * @return Nome da propriedade no JSON.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Expressão JPQL sobre o alias {@code i} de {@link Insurance}.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Interpreta uma lista separada por vírgulas de nomes de propriedade, como {@code "policyNumber,premium"}.
+     * @return Campos pedidos mais o {@link #ID}, em ordem de declaração; {@link #DEFAULT} se vazio ou nulo.
+     * @throws IllegalArgumentException se algum nome não for um campo conhecido.
+     */
+    public static Set<InsuranceField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return DEFAULT;
+        }
+        Set<InsuranceField> selected = EnumSet.of(ID);
+        for (String token : fields.split(",")) {
+            selected.add(fromName(token.trim()));
+        }
+        return selected;
+    }
+
+    private static InsuranceField fromName(String name) {
+        for (InsuranceField field : values()) {
+            if (field.name.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção parcial de um seguro, lida sem carregar a entidade. Apenas os {@link InsuranceField} pedidos na consulta
+ * são preenchidos; os demais ficam {@code null}. O {@code id} está sempre presente.
+ */
+public record InsuranceProjection(Long id, Long version, String policyNumber, String holderName, LocalDate startDate,
+                                  LocalDate endDate, LocalDate claimDate, Double insuredAmount, Double riskFactor,
+                                  Double premium) {
+
+    /**
+     * @return O valor do campo, ou {@code null} se ele não foi selecionado.
+     */
+    public Object get(InsuranceField field) {
+        return switch (field) {
+            case ID -> id;
+            case VERSION -> version;
+            case POLICY_NUMBER -> policyNumber;
+            case HOLDER_NAME -> holderName;
+            case START_DATE -> startDate;
+            case END_DATE -> endDate;
+            case CLAIM_DATE -> claimDate;
+            case INSURED_AMOUNT -> insuredAmount;
+            case RISK_FACTOR -> riskFactor;
+            case PREMIUM -> premium;
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.domain.model;
+
+/**
+ * Projeção com o prêmio total e a quantidade de seguros sinistrados em um mês (1 a 12).
+ */
+public record MonthlyPremium(Integer month, Double totalPremium, Long claimCount) {
+}
@@ -0,0 +1,140 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Acumulador do prêmio total por mês (1 a 12) sobre arrays primitivos, com soma compensada.
+ * Seguros sem a data escolhida são ignorados.
+ */
+public final class MonthlyPremiumTotals {
+
+    private final InsuranceDateField dateField;
+    private final double[] sums = new double[12];
+    private final double[] compensations = new double[12];
+    private final long[] counts = new long[12];
+
+    static final int PARALLEL_LEAF_SIZE = 8192;
+
+    public MonthlyPremiumTotals(InsuranceDateField dateField) {
+        this.dateField = dateField;
+    }
+
+    public static MonthlyPremiumTotals of(List<Insurance> insurances, InsuranceDateField dateField) {
+        MonthlyPremiumTotals totals = new MonthlyPremiumTotals(dateField);
+        for (Insurance insurance : insurances) {
+            totals.add(insurance);
+        }
+        return totals;
+    }
+
+    /**
+     * Agrega em paralelo no pool informado. A entrada é dividida pela metade até blocos de
+     * {@value #PARALLEL_LEAF_SIZE} seguros e os blocos são combinados sempre na mesma ordem,
+     * então o resultado é idêntico para qualquer quantidade de threads.
+     */
+    public static MonthlyPremiumTotals ofParallel(List<Insurance> insurances, InsuranceDateField dateField, ForkJoinPool pool) {
+        List<Insurance> randomAccess = insurances instanceof RandomAccess ? insurances : new ArrayList<>(insurances);
+        return pool.invoke(new AggregationTask(randomAccess, dateField, 0, randomAccess.size()));
+    }
+
+    public static MonthlyPremiumTotals of(List<Insurance> insurances, InsuranceDateField dateField, AggregationMode mode) {
+        if (mode == AggregationMode.PARALLEL) {
+            return ofParallel(insurances, dateField, ForkJoinPool.commonPool());
+        }
+        return of(insurances, dateField);
+    }
+
+    public void add(Insurance insurance) {
+        LocalDate date = dateField.valueOf(insurance);
+        if (date != null) {
+            add(date.getMonthValue(), insurance.calculatePremium(insurance.getInsuredAmount(), insurance.getRiskFactor()));
+        }
+    }
+
+    /**
+     * Soma um prêmio já calculado no mês informado (1 a 12), para fontes que não carregam entidades.
+     */
+    public void add(int month, double premium) {
+        CompensatedSums.add(sums, compensations, month - 1, premium);
+        counts[month - 1]++;
+    }
+
+    /**
+     * Soma os totais de outro acumulador neste.
+     */
+    public MonthlyPremiumTotals merge(MonthlyPremiumTotals other) {
+        for (int bucket = 0; bucket < 12; bucket++) {
+            CompensatedSums.merge(sums, compensations, other.sums, other.compensations, bucket, bucket);
+            counts[bucket] += other.counts[bucket];
+        }
+        return this;
+    }
+
+    public double total(int month) {
+        return sums[month - 1] + compensations[month - 1];
+    }
+
+    public long count(int month) {
+        return counts[month - 1];
+    }
+
+    public boolean isEmpty() {
+        for (long count : counts) {
+            if (count > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Os meses que possuem ao menos um seguro, em ordem crescente de mês.
+     */
+    public Map<Integer, Double> toMap() {
+        Map<Integer, Double> monthlyPremiums = new LinkedHashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            if (counts[month - 1] > 0) {
+                monthlyPremiums.put(month, total(month));
+            }
+        }
+        return monthlyPremiums;
+    }
+
+    private static final class AggregationTask extends RecursiveTask<MonthlyPremiumTotals> {
+        private final List<Insurance> insurances;
+        private final InsuranceDateField dateField;
+        private final int from;
+        private final int to;
+
+        AggregationTask(List<Insurance> insurances, InsuranceDateField dateField, int from, int to) {
+            this.insurances = insurances;
+            this.dateField = dateField;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected MonthlyPremiumTotals compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                MonthlyPremiumTotals totals = new MonthlyPremiumTotals(dateField);
+                for (int i = from; i < to; i++) {
+                    totals.add(insurances.get(i));
+                }
+                return totals;
+            }
+            int middle = (from + to) >>> 1;
+            AggregationTask left = new AggregationTask(insurances, dateField, from, middle);
+            AggregationTask right = new AggregationTask(insurances, dateField, middle, to);
+            left.fork();
+            MonthlyPremiumTotals rightTotals = right.compute();
+            return left.join().merge(rightTotals);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.demo.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cópia somente leitura da carteira em colunas de arrays primitivos, para agregações sem acesso ao banco.
+ * Datas são guardadas em dias desde 1970-01-01 ({@link #NULL_DATE} quando ausentes) e o nome do segurado é
+ * codificado em dicionário. O número da apólice fica de fora: é único por linha e nenhuma agregação o usa.
+ * Os arrays nunca são alterados depois de construídos, então a instância pode ser lida por várias threads.
+ */
+public final class PortfolioSnapshot {
+
+    public static final int NULL_DATE = Integer.MIN_VALUE;
+
+    /** Cabeçalho aproximado de um array na JVM de 64 bits com compressed oops. */
+    private static final long ARRAY_HEADER_BYTES = 16;
+    /** Objeto String mais o cabeçalho do seu byte[] interno. */
+    private static final long STRING_OVERHEAD_BYTES = 24 + ARRAY_HEADER_BYTES;
+
+    private final int size;
+    private final long[] ids;
+    private final int[] startDates;
+    private final int[] endDates;
+    private final int[] claimDates;
+    private final double[] insuredAmounts;
+    private final double[] riskFactors;
+    private final int[] holderNameCodes;
+    private final String[] holderNames;
+    private final Instant createdAt;
+
+    private PortfolioSnapshot(Builder builder, Instant createdAt) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.startDates = Arrays.copyOf(builder.startDates, size);
+        this.endDates = Arrays.copyOf(builder.endDates, size);
+        this.claimDates = Arrays.copyOf(builder.claimDates, size);
+        this.insuredAmounts = Arrays.copyOf(builder.insuredAmounts, size);
+        this.riskFactors = Arrays.copyOf(builder.riskFactors, size);
+        this.holderNameCodes = Arrays.copyOf(builder.holderNameCodes, size);
+        this.holderNames = new String[builder.dictionary.size()];
+        builder.dictionary.forEach((name, code) -> holderNames[code] = name);
+        this.createdAt = createdAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public String holderName(int row) {
+        return holderNameCodes[row] < 0 ? null : holderNames[holderNameCodes[row]];
+    }
+
+    public double premium(int row) {
+        return insuredAmounts[row] * riskFactors[row] * Insurance.PREMIUM_RATE;
+    }
+
+    /**
+     * Mesmo resultado de {@link MonthlyPremiumTotals#of}, varrendo as colunas em vez das entidades.
+     */
+    public MonthlyPremiumTotals totalPremiumByMonth(InsuranceDateField dateField) {
+        int[] dates = dates(dateField);
+        MonthlyPremiumTotals totals = new MonthlyPremiumTotals(dateField);
+        for (int row = 0; row < size; row++) {
+            if (dates[row] != NULL_DATE) {
+                totals.add(LocalDate.ofEpochDay(dates[row]).getMonthValue(), premium(row));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Mesmo resultado de {@link YearMonthPremiumTotals#of}, varrendo as colunas em vez das entidades.
+     */
+    public YearMonthPremiumTotals totalPremiumByYearMonth(InsuranceDateField dateField) {
+        int[] dates = dates(dateField);
+        YearMonthPremiumTotals totals = new YearMonthPremiumTotals(dateField);
+        for (int row = 0; row < size; row++) {
+            if (dates[row] != NULL_DATE) {
+                LocalDate date = LocalDate.ofEpochDay(dates[row]);
+                totals.add(date.getYear(), date.getMonthValue(), premium(row));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Calcula o prêmio de todas as linhas com o kernel informado, direto sobre as colunas de valor e fator de risco.
+     */
+    public BookRepricing reprice(PremiumKernel kernel) {
+        double[] premiums = new double[size];
+        long start = System.nanoTime();
+        kernel.price(insuredAmounts, riskFactors, premiums, size);
+        long pricingMicros = (System.nanoTime() - start) / 1_000;
+
+        double[] totals = new double[2];
+        double[] compensations = new double[2];
+        for (int row = 0; row < size; row++) {
+            CompensatedSums.add(totals, compensations, 0, premium(row));
+            CompensatedSums.add(totals, compensations, 1, premiums[row]);
+        }
+        return new BookRepricing(size, totals[0] + compensations[0], totals[1] + compensations[1], kernel.name(),
+                pricingMicros);
+    }
+
+    /**
+     * Estimativa do heap ocupado pelas colunas e pelo dicionário, sem contar o alinhamento dos objetos.
+     */
+    public Footprint footprint() {
+        long columnBytes = 7 * ARRAY_HEADER_BYTES
+                + (long) size * (Long.BYTES + 3 * Integer.BYTES + 2 * Double.BYTES + Integer.BYTES);
+        long dictionaryBytes = ARRAY_HEADER_BYTES + (long) holderNames.length * Integer.BYTES;
+        for (String holderName : holderNames) {
+            // Strings Latin-1 ocupam um byte por caractere; as demais, dois
+            dictionaryBytes += STRING_OVERHEAD_BYTES + holderName.length() * (isLatin1(holderName) ? 1L : 2L);
+        }
+        return new Footprint(size, holderNames.length, columnBytes, dictionaryBytes);
+    }
+
+    private int[] dates(InsuranceDateField dateField) {
+        return switch (dateField) {
+            case START_DATE -> startDates;
+            case END_DATE -> endDates;
+            case CLAIM_DATE -> claimDates;
+        };
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Memória estimada do snapshot, em bytes.
+     */
+    public record Footprint(int rows, int distinctHolderNames, long columnBytes, long dictionaryBytes) {
+        public long totalBytes() {
+            return columnBytes + dictionaryBytes;
+        }
+    }
+
+    /**
+     * Acumula linhas em arrays que dobram de tamanho; {@link #build()} corta o excesso.
+     */
+    public static final class Builder {
+        private int size;
+        private long[] ids = new long[1024];
+        private int[] startDates = new int[1024];
+        private int[] endDates = new int[1024];
+        private int[] claimDates = new int[1024];
+        private double[] insuredAmounts = new double[1024];
+        private double[] riskFactors = new double[1024];
+        private int[] holderNameCodes = new int[1024];
+        private final Map<String, Integer> dictionary = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(InsuranceExportRow row) {
+            return add(row.id(), row.holderName(), row.startDate(), row.endDate(), row.claimDate(),
+                    row.insuredAmount(), row.riskFactor());
+        }
+
+        public Builder add(Insurance insurance) {
+            return add(insurance.getId(), insurance.getHolderName(), insurance.getStartDate(), insurance.getEndDate(),
+                    insurance.getClaimDate(), insurance.getInsuredAmount(), insurance.getRiskFactor());
+        }
+
+        private Builder add(Long id, String holderName, LocalDate startDate, LocalDate endDate, LocalDate claimDate,
+                            double insuredAmount, double riskFactor) {
+            if (size == ids.length) {
+                grow(size * 2);
+            }
+            ids[size] = id;
+            startDates[size] = epochDay(startDate);
+            endDates[size] = epochDay(endDate);
+            claimDates[size] = epochDay(claimDate);
+            insuredAmounts[size] = insuredAmount;
+            riskFactors[size] = riskFactor;
+            holderNameCodes[size] = holderName == null ? -1 : dictionary.computeIfAbsent(holderName, name -> dictionary.size());
+            size++;
+            return this;
+        }
+
+        public PortfolioSnapshot build() {
+            return build(Instant.now());
+        }
+
+        public PortfolioSnapshot build(Instant createdAt) {
+            return new PortfolioSnapshot(this, createdAt);
+        }
+
+        private void grow(int capacity) {
+            ids = Arrays.copyOf(ids, capacity);
+            startDates = Arrays.copyOf(startDates, capacity);
+            endDates = Arrays.copyOf(endDates, capacity);
+            claimDates = Arrays.copyOf(claimDates, capacity);
+            insuredAmounts = Arrays.copyOf(insuredAmounts, capacity);
+            riskFactors = Arrays.copyOf(riskFactors, capacity);
+            holderNameCodes = Arrays.copyOf(holderNameCodes, capacity);
+        }
+
+        private static int epochDay(LocalDate date) {
+            return date == null ? NULL_DATE : Math.toIntExact(date.toEpochDay());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Linha da tabela de consolidação (rollup) do prêmio total dos seguros sinistrados por mês.
+ * Mantida incrementalmente a cada escrita de {@link Insurance}, existe sempre uma linha para cada mês de 1 a 12,
+ * criadas em {@code data.sql}.
+ */
+@Entity
+@Table(name = "premium_by_month")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Builder
+public class PremiumByMonth {
+
+    @Id
+    @Column(name = "claim_month")
+    private Integer month;
+
+    @Column(nullable = false)
+    private double totalPremium;
+
+    @Column(nullable = false)
+    private long claimCount;
+}
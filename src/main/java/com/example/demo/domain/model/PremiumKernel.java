@@ -0,0 +1,18 @@
+package com.example.demo.domain.model;
+
+/**
+ * Calcula prêmios em lote sobre arrays primitivos, com o mesmo resultado de {@link RatingTable#premium}.
+ */
+public interface PremiumKernel {
+
+    /**
+     * Preenche {@code premiums[0..length)} a partir das posições correspondentes de valores segurados e fatores.
+     */
+    void price(double[] insuredAmounts, double[] riskFactors, double[] premiums, int length);
+
+    String name();
+
+    static PremiumKernel scalar(RatingTable ratingTable) {
+        return new ScalarPremiumKernel(ratingTable);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.domain.model;
+
+/**
+ * Pedido de cálculo de prêmio para um seguro existente.
+ * @param insuredAmount valor segurado hipotético; quando nulo, usa o valor gravado.
+ * @param riskFactor fator de risco hipotético; quando nulo, usa o valor gravado.
+ */
+public record PremiumRequest(Long id, Double insuredAmount, Double riskFactor) {
+}
@@ -0,0 +1,50 @@
+package com.example.demo.domain.model;
+
+import java.util.List;
+
+/**
+ * Tabela de tarifação: prêmio = valor segurado × fator de risco × taxa base × multiplicador da faixa de risco,
+ * nunca abaixo do prêmio mínimo. A faixa aplicada é a primeira cujo {@code maxRiskFactor} cobre o fator de risco;
+ * acima da última faixa o multiplicador é 1.
+ * A tabela {@link #standard()} reproduz {@link Insurance#calculatePremium()}.
+ */
+public record RatingTable(double baseRate, double minimumPremium, List<RiskBand> bands) {
+
+    public RatingTable {
+        if (!(baseRate > 0)) {
+            throw new IllegalArgumentException("baseRate must be positive");
+        }
+        if (!(minimumPremium >= 0)) {
+            throw new IllegalArgumentException("minimumPremium must not be negative");
+        }
+        bands = bands == null ? List.of() : List.copyOf(bands);
+        for (int i = 0; i < bands.size(); i++) {
+            if (!(bands.get(i).multiplier() > 0)) {
+                throw new IllegalArgumentException("Risk band multiplier must be positive");
+            }
+            if (i > 0 && !(bands.get(i).maxRiskFactor() > bands.get(i - 1).maxRiskFactor())) {
+                throw new IllegalArgumentException("Risk bands must be ordered by increasing maxRiskFactor");
+            }
+        }
+    }
+
+    public static RatingTable standard() {
+        return new RatingTable(Insurance.PREMIUM_RATE, 0.0, List.of());
+    }
+
+    public double premium(double insuredAmount, double riskFactor) {
+        return Math.max(minimumPremium, insuredAmount * riskFactor * baseRate * multiplier(riskFactor));
+    }
+
+    public double multiplier(double riskFactor) {
+        for (RiskBand band : bands) {
+            if (riskFactor <= band.maxRiskFactor()) {
+                return band.multiplier();
+            }
+        }
+        return 1.0;
+    }
+
+    public record RiskBand(double maxRiskFactor, double multiplier) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.domain.model;
+
+final class ScalarPremiumKernel implements PremiumKernel {
+
+    private final RatingTable ratingTable;
+
+    ScalarPremiumKernel(RatingTable ratingTable) {
+        this.ratingTable = ratingTable;
+    }
+
+    @Override
+    public void price(double[] insuredAmounts, double[] riskFactors, double[] premiums, int length) {
+        for (int i = 0; i < length; i++) {
+            premiums[i] = ratingTable.premium(insuredAmounts[i], riskFactors[i]);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
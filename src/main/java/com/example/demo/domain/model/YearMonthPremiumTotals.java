@@ -0,0 +1,118 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Acumulador do prêmio total por ano-mês sobre arrays primitivos indexados pelo mês absoluto
+ * ({@code ano * 12 + mês - 1}), com soma compensada. Os arrays crescem para cobrir o intervalo de datas visto.
+ */
+public final class YearMonthPremiumTotals {
+
+    private final InsuranceDateField dateField;
+    private int firstEpochMonth;
+    private double[] sums = new double[0];
+    private double[] compensations = new double[0];
+    private long[] counts = new long[0];
+
+    public YearMonthPremiumTotals(InsuranceDateField dateField) {
+        this.dateField = dateField;
+    }
+
+    public static YearMonthPremiumTotals of(List<Insurance> insurances, InsuranceDateField dateField) {
+        YearMonthPremiumTotals totals = new YearMonthPremiumTotals(dateField);
+        for (Insurance insurance : insurances) {
+            totals.add(insurance);
+        }
+        return totals;
+    }
+
+    public void add(Insurance insurance) {
+        LocalDate date = dateField.valueOf(insurance);
+        if (date != null) {
+            add(date.getYear(), date.getMonthValue(),
+                    insurance.calculatePremium(insurance.getInsuredAmount(), insurance.getRiskFactor()));
+        }
+    }
+
+    /**
+     * Soma um prêmio já calculado no ano-mês informado, para fontes que não carregam entidades.
+     */
+    public void add(int year, int month, double premium) {
+        int bucket = bucketFor(year * 12 + month - 1);
+        CompensatedSums.add(sums, compensations, bucket, premium);
+        counts[bucket]++;
+    }
+
+    /**
+     * Soma os totais de outro acumulador neste.
+     */
+    public YearMonthPremiumTotals merge(YearMonthPremiumTotals other) {
+        for (int otherBucket = 0; otherBucket < other.counts.length; otherBucket++) {
+            if (other.counts[otherBucket] > 0) {
+                int bucket = bucketFor(other.firstEpochMonth + otherBucket);
+                CompensatedSums.merge(sums, compensations, other.sums, other.compensations, bucket, otherBucket);
+                counts[bucket] += other.counts[otherBucket];
+            }
+        }
+        return this;
+    }
+
+    public double total(YearMonth yearMonth) {
+        int bucket = yearMonth.getYear() * 12 + yearMonth.getMonthValue() - 1 - firstEpochMonth;
+        if (bucket < 0 || bucket >= counts.length) {
+            return 0.0;
+        }
+        return sums[bucket] + compensations[bucket];
+    }
+
+    public boolean isEmpty() {
+        return toMap().isEmpty();
+    }
+
+    /**
+     * @return Os meses que possuem ao menos um seguro, em ordem cronológica.
+     */
+    public SortedMap<YearMonth, Double> toMap() {
+        SortedMap<YearMonth, Double> premiums = new TreeMap<>();
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                int epochMonth = firstEpochMonth + bucket;
+                premiums.put(YearMonth.of(epochMonth / 12, epochMonth % 12 + 1), sums[bucket] + compensations[bucket]);
+            }
+        }
+        return premiums;
+    }
+
+    private int bucketFor(int epochMonth) {
+        if (counts.length == 0) {
+            firstEpochMonth = epochMonth;
+            grow(0, 12);
+        } else if (epochMonth < firstEpochMonth) {
+            // Reserva folga à esquerda para evitar uma cópia a cada mês mais antigo encontrado
+            int shift = Math.max(firstEpochMonth - epochMonth, 12);
+            grow(shift, counts.length + shift);
+            firstEpochMonth -= shift;
+        } else if (epochMonth - firstEpochMonth >= counts.length) {
+            grow(0, Math.max(epochMonth - firstEpochMonth + 1, counts.length * 2));
+        }
+        return epochMonth - firstEpochMonth;
+    }
+
+    private void grow(int shift, int newLength) {
+        sums = copy(sums, shift, newLength);
+        compensations = copy(compensations, shift, newLength);
+        long[] newCounts = new long[newLength];
+        System.arraycopy(counts, 0, newCounts, shift, counts.length);
+        counts = newCounts;
+    }
+
+    private static double[] copy(double[] source, int shift, int newLength) {
+        double[] target = new double[newLength];
+        System.arraycopy(source, 0, target, shift, source.length);
+        return target;
+    }
+}
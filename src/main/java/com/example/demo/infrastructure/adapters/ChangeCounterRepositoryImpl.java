@@ -0,0 +1,37 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.application.ports.ChangeCounterRepositoryPort;
+import com.example.demo.domain.model.ChangeCounter;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeCounterRepositoryImpl extends JpaRepository<ChangeCounter, String>, ChangeCounterRepositoryPort {
+
+    @Override
+    default void increment(String tableName) {
+        if (incrementExisting(tableName) == 0) {
+            throw new IncorrectUpdateSemanticsDataAccessException("Change counter row for table " + tableName + " is missing");
+        }
+    }
+
+    @Transactional
+    @Modifying
+    @Query("update ChangeCounter c set c.changeCount = c.changeCount + 1 where c.tableName = :tableName")
+    int incrementExisting(String tableName);
+
+    @Override
+    default long getChangeCount(String tableName) {
+        return findChangeCount(tableName).orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    @Query("select c.changeCount from ChangeCounter c where c.tableName = :tableName")
+    Optional<Long> findChangeCount(String tableName);
+}
@@ -0,0 +1,29 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.YearMonthPremiumTotals;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fragmento do {@link InsuranceRepositoryImpl} com o acesso à tabela de arquivo ({@code insurance_archive}).
+ * Os seguros arquivados são devolvidos como {@link Insurance} desanexados.
+ */
+public interface InsuranceArchiveQueries {
+
+    Optional<Insurance> findArchivedById(Long id);
+
+    Optional<Insurance> findArchivedByPolicyNumber(String policyNumber);
+
+    /**
+     * Prêmio total dos seguros arquivados por ano-mês do campo de data, calculado no banco.
+     */
+    YearMonthPremiumTotals sumArchivedPremiumByYearMonth(InsuranceDateField dateField);
+
+    /**
+     * Copia os seguros para a tabela de arquivo e os remove da tabela principal, na transação corrente.
+     */
+    void moveToArchive(List<Insurance> insurances);
+}
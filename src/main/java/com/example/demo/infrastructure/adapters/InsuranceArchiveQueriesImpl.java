@@ -0,0 +1,67 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.domain.model.ArchivedInsurance;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.YearMonthPremiumTotals;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class InsuranceArchiveQueriesImpl implements InsuranceArchiveQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Insurance> findArchivedById(Long id) {
+        return Optional.ofNullable(entityManager.find(ArchivedInsurance.class, id)).map(ArchivedInsurance::toInsurance);
+    }
+
+    @Override
+    public Optional<Insurance> findArchivedByPolicyNumber(String policyNumber) {
+        // O número da apólice pode ter sido reutilizado depois do arquivamento; vale o arquivado mais recente
+        return entityManager.createQuery("select a from ArchivedInsurance a where a.policyNumber = :policyNumber "
+                        + "order by a.id desc", ArchivedInsurance.class)
+                .setParameter("policyNumber", policyNumber)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .map(ArchivedInsurance::toInsurance);
+    }
+
+    @Override
+    public YearMonthPremiumTotals sumArchivedPremiumByYearMonth(InsuranceDateField dateField) {
+        String date = switch (dateField) {
+            case START_DATE -> "a.startDate";
+            case END_DATE -> "a.endDate";
+            case CLAIM_DATE -> "a.claimDate";
+        };
+        YearMonthPremiumTotals totals = new YearMonthPremiumTotals(dateField);
+        entityManager.createQuery("select year(" + date + "), month(" + date + "), "
+                        + "sum(a.insuredAmount * a.riskFactor * " + Insurance.PREMIUM_RATE + ") "
+                        + "from ArchivedInsurance a where " + date + " is not null "
+                        + "group by year(" + date + "), month(" + date + ")", Object[].class)
+                .getResultStream()
+                .forEach(row -> totals.add(((Number) row[0]).intValue(), ((Number) row[1]).intValue(),
+                        ((Number) row[2]).doubleValue()));
+        return totals;
+    }
+
+    @Override
+    @Transactional
+    public void moveToArchive(List<Insurance> insurances) {
+        Instant archivedAt = Instant.now();
+        insurances.forEach(insurance -> entityManager.persist(ArchivedInsurance.of(insurance, archivedAt)));
+        entityManager.flush();
+        entityManager.createQuery("delete from Insurance i where i.id in :ids")
+                .setParameter("ids", insurances.stream().map(Insurance::getId).toList())
+                .executeUpdate();
+        insurances.forEach(entityManager::detach);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fragmento do {@link InsuranceRepositoryImpl} com as consultas de projeção dinâmica, que leem apenas as
+ * colunas pedidas e não passam pelo contexto de persistência.
+ */
+public interface InsuranceProjectionQueries {
+
+    List<InsuranceProjection> findFieldsPageAfter(Set<InsuranceField> fields, Long afterId, int limit);
+
+    /**
+     * Mesma consulta de {@link #findFieldsPageAfter} sobre a tabela de arquivo.
+     */
+    List<InsuranceProjection> findArchivedFieldsPageAfter(Set<InsuranceField> fields, Long afterId, int limit);
+
+    List<InsuranceProjection> findFieldsByHolderNamePrefix(Set<InsuranceField> fields, String prefix, int limit);
+
+    List<InsuranceProjection> findFieldsByClaimDateRange(Set<InsuranceField> fields, LocalDate from, LocalDate to,
+                                                         int limit);
+}
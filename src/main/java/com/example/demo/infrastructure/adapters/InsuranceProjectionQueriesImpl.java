@@ -0,0 +1,95 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Transactional(readOnly = true)
+class InsuranceProjectionQueriesImpl implements InsuranceProjectionQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<InsuranceProjection> findFieldsPageAfter(Set<InsuranceField> fields, Long afterId, int limit) {
+        TypedQuery<Object[]> query = select(fields, "i.id > :afterId order by i.id");
+        query.setParameter("afterId", afterId == null ? 0L : afterId);
+        return toProjections(fields, query.setMaxResults(limit).getResultList());
+    }
+
+    @Override
+    public List<InsuranceProjection> findArchivedFieldsPageAfter(Set<InsuranceField> fields, Long afterId, int limit) {
+        TypedQuery<Object[]> query = select(fields, "ArchivedInsurance", "i.id > :afterId order by i.id");
+        query.setParameter("afterId", afterId == null ? 0L : afterId);
+        return toProjections(fields, query.setMaxResults(limit).getResultList());
+    }
+
+    @Override
+    public List<InsuranceProjection> findFieldsByHolderNamePrefix(Set<InsuranceField> fields, String prefix, int limit) {
+        TypedQuery<Object[]> query = select(fields, "i.holderName like :prefix escape '\\' order by i.holderName, i.id");
+        query.setParameter("prefix", escapeLike(prefix) + "%");
+        return toProjections(fields, query.setMaxResults(limit).getResultList());
+    }
+
+    @Override
+    public List<InsuranceProjection> findFieldsByClaimDateRange(Set<InsuranceField> fields, LocalDate from, LocalDate to,
+                                                                int limit) {
+        TypedQuery<Object[]> query = select(fields, "i.claimDate between :from and :to order by i.claimDate, i.id");
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        return toProjections(fields, query.setMaxResults(limit).getResultList());
+    }
+
+    private TypedQuery<Object[]> select(Set<InsuranceField> fields, String whereAndOrder) {
+        return select(fields, "Insurance", whereAndOrder);
+    }
+
+    /**
+     * @param entityName {@code Insurance} ou {@code ArchivedInsurance}, que têm as mesmas propriedades.
+     */
+    private TypedQuery<Object[]> select(Set<InsuranceField> fields, String entityName, String whereAndOrder) {
+        // Sempre seleciona ao menos duas expressões (o id e mais uma), para que cada linha venha como Object[]
+        String columns = fields.stream().map(InsuranceField::getExpression).collect(Collectors.joining(", "));
+        if (fields.size() == 1) {
+            columns += ", 1";
+        }
+        return entityManager.createQuery("select " + columns + " from " + entityName + " i where " + whereAndOrder,
+                Object[].class);
+    }
+
+    private static List<InsuranceProjection> toProjections(Set<InsuranceField> fields, List<Object[]> rows) {
+        List<InsuranceProjection> result = new ArrayList<>(rows.size());
+        Object[] values = new Object[InsuranceField.values().length];
+        for (Object[] row : rows) {
+            int column = 0;
+            for (InsuranceField field : fields) {
+                values[field.ordinal()] = row[column++];
+            }
+            result.add(new InsuranceProjection(
+                    (Long) values[InsuranceField.ID.ordinal()],
+                    (Long) values[InsuranceField.VERSION.ordinal()],
+                    (String) values[InsuranceField.POLICY_NUMBER.ordinal()],
+                    (String) values[InsuranceField.HOLDER_NAME.ordinal()],
+                    (LocalDate) values[InsuranceField.START_DATE.ordinal()],
+                    (LocalDate) values[InsuranceField.END_DATE.ordinal()],
+                    (LocalDate) values[InsuranceField.CLAIM_DATE.ordinal()],
+                    (Double) values[InsuranceField.INSURED_AMOUNT.ordinal()],
+                    (Double) values[InsuranceField.RISK_FACTOR.ordinal()],
+                    (Double) values[InsuranceField.PREMIUM.ordinal()]));
+        }
+        return result;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
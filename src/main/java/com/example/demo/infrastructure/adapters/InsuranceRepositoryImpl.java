@@ -1,10 +1,157 @@
 package com.example.demo.infrastructure.adapters;
 
 import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import com.example.demo.domain.model.MonthlyPremium;
 import com.example.demo.application.ports.InsuranceRepositoryPort;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Repository
-public interface InsuranceRepositoryImpl extends JpaRepository<Insurance, Long>, InsuranceRepositoryPort {
+public interface InsuranceRepositoryImpl extends JpaRepository<Insurance, Long>, InsuranceRepositoryPort,
+        InsuranceProjectionQueries, InsuranceArchiveQueries {
+
+    @Transactional(readOnly = true)
+    List<Insurance> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Override
+    default List<Insurance> findPageAfter(Long afterId, int limit) {
+        return findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, Limit.of(limit));
+    }
+
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Insurance> findByEndDateBeforeOrderByIdAsc(LocalDate date, Limit limit);
+
+    @Override
+    default List<Insurance> findEndedBefore(LocalDate date, int limit) {
+        return findByEndDateBeforeOrderByIdAsc(date, Limit.of(limit));
+    }
+
+    @Override
+    default Optional<Insurance> findById(Long id, boolean includeArchived) {
+        // findById(Long) existe no port e no CrudRepository; a referência pelo port desfaz a ambiguidade
+        InsuranceRepositoryPort port = this;
+        Optional<Insurance> insurance = port.findById(id);
+        return includeArchived && insurance.isEmpty() ? findArchivedById(id) : insurance;
+    }
+
+    @Override
+    default Optional<Insurance> findByPolicyNumber(String policyNumber, boolean includeArchived) {
+        Optional<Insurance> insurance = findByPolicyNumber(policyNumber);
+        return includeArchived && insurance.isEmpty() ? findArchivedByPolicyNumber(policyNumber) : insurance;
+    }
+
+    @Override
+    default List<InsuranceProjection> findFieldsPageAfter(Set<InsuranceField> fields, Long afterId, int limit,
+                                                          boolean includeArchived) {
+        List<InsuranceProjection> page = findFieldsPageAfter(fields, afterId, limit);
+        if (!includeArchived) {
+            return page;
+        }
+        return mergeById(page, findArchivedFieldsPageAfter(fields, afterId, limit), InsuranceProjection::id, limit);
+    }
+
+    /**
+     * Intercala duas páginas já ordenadas por id. Os ids nunca se repetem entre as tabelas, pois o arquivo
+     * mantém o id original e a sequência não reaproveita valores.
+     */
+    private static <T> List<T> mergeById(List<T> hot, List<T> archived, Function<T, Long> id, int limit) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, hot.size() + archived.size()));
+        int h = 0;
+        int a = 0;
+        while (merged.size() < limit && (h < hot.size() || a < archived.size())) {
+            if (a == archived.size() || (h < hot.size() && id.apply(hot.get(h)) < id.apply(archived.get(a)))) {
+                merged.add(hot.get(h++));
+            } else {
+                merged.add(archived.get(a++));
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    default List<Insurance> saveAllInBatch(List<Insurance> insurances) {
+        List<Insurance> saved = saveAll(insurances);
+        flush();
+        return saved;
+    }
+
+    @Override
+    default Optional<Long> lockById(Long id) {
+        return findVersionForUpdate(id);
+    }
+
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i.version from Insurance i where i.id = :id")
+    Optional<Long> findVersionForUpdate(Long id);
+
+    // Em ordem de id, para que duas exclusões em lote concorrentes não travem linhas em ordens opostas
+    @Override
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Insurance i where i.id in :ids order by i.id")
+    List<Insurance> findAllByIdForUpdate(Collection<Long> ids);
+
+    @Override
+    default int updateIfVersionMatches(Insurance insurance) {
+        return updateById(insurance.getId(), insurance.getVersion(), insurance.getPolicyNumber(),
+                insurance.getHolderName(), insurance.getStartDate(), insurance.getEndDate(),
+                insurance.getClaimDate(), insurance.getInsuredAmount(), insurance.getRiskFactor());
+    }
+
+    @Transactional
+    @Modifying
+    @Query("update Insurance i set i.policyNumber = :policyNumber, i.holderName = :holderName, "
+            + "i.startDate = :startDate, i.endDate = :endDate, i.claimDate = :claimDate, "
+            + "i.insuredAmount = :insuredAmount, i.riskFactor = :riskFactor, i.version = i.version + 1 "
+            + "where i.id = :id and (:version is null or i.version = :version)")
+    int updateById(Long id, Long version, String policyNumber, String holderName, LocalDate startDate,
+                   LocalDate endDate, LocalDate claimDate, double insuredAmount, double riskFactor);
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query("delete from Insurance i where i.id = :id")
+    int deleteByIdReturningCount(Long id);
+
+    @Override
+    @Transactional(readOnly = true)
+    @Query("select new com.example.demo.domain.model.MonthlyPremium(month(i.claimDate), "
+            + "sum(i.insuredAmount * i.riskFactor * " + Insurance.PREMIUM_RATE + "), count(i)) "
+            + "from Insurance i where i.claimDate is not null "
+            + "group by month(i.claimDate) order by month(i.claimDate)")
+    List<MonthlyPremium> sumPremiumByClaimMonth();
+
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.demo.domain.model.InsuranceExportRow(i.id, i.policyNumber, i.holderName, "
+            + "i.startDate, i.endDate, i.claimDate, i.insuredAmount, i.riskFactor, "
+            + "i.insuredAmount * i.riskFactor * " + Insurance.PREMIUM_RATE + ") "
+            + "from Insurance i order by i.id")
+    Stream<InsuranceExportRow> streamExportRows();
 }
@@ -0,0 +1,68 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.application.ports.PremiumByMonthRepositoryPort;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.MonthlyPremium;
+import com.example.demo.domain.model.PremiumByMonth;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PremiumByMonthRepositoryImpl extends JpaRepository<PremiumByMonth, Integer>, PremiumByMonthRepositoryPort {
+
+    @Override
+    default void addToMonth(int month, double premium, long claimCount) {
+        if (addToMonthRow(month, premium, claimCount) == 0) {
+            throw new IncorrectUpdateSemanticsDataAccessException("Premium rollup row for month " + month + " is missing");
+        }
+    }
+
+    @Transactional
+    @Modifying
+    @Query("update PremiumByMonth p set p.totalPremium = p.totalPremium + :premium, "
+            + "p.claimCount = p.claimCount + :claimCount where p.month = :month")
+    int addToMonthRow(int month, double premium, long claimCount);
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query("update PremiumByMonth p set "
+            + "p.totalPremium = p.totalPremium - (select i.insuredAmount * i.riskFactor * " + Insurance.PREMIUM_RATE
+            + " from Insurance i where i.id = :insuranceId), p.claimCount = p.claimCount - 1 "
+            + "where p.month = (select month(i.claimDate) from Insurance i where i.id = :insuranceId)")
+    void subtractInsurance(Long insuranceId);
+
+    @Override
+    @Query("select new com.example.demo.domain.model.MonthlyPremium(p.month, p.totalPremium, p.claimCount) "
+            + "from PremiumByMonth p where p.claimCount > 0 order by p.month")
+    List<MonthlyPremium> findMonthsWithClaims();
+
+    @Override
+    @Transactional
+    default void replaceAll(Collection<MonthlyPremium> totals) {
+        PremiumByMonth[] rows = new PremiumByMonth[12];
+        for (PremiumByMonth existing : findAll()) {
+            rows[existing.getMonth() - 1] = existing;
+        }
+        for (int month = 1; month <= 12; month++) {
+            if (rows[month - 1] == null) {
+                rows[month - 1] = new PremiumByMonth(month, 0.0, 0L);
+            }
+            rows[month - 1].setTotalPremium(0.0);
+            rows[month - 1].setClaimCount(0L);
+        }
+        for (MonthlyPremium total : totals) {
+            PremiumByMonth row = rows[total.month() - 1];
+            row.setTotalPremium(total.totalPremium());
+            row.setClaimCount(total.claimCount());
+        }
+        saveAll(List.of(rows));
+    }
+}
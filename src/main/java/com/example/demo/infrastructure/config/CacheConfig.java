@@ -0,0 +1,37 @@
+package com.example.demo.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Habilita o cache em memória (Caffeine) das leituras por id; tamanho, TTL e estatísticas
+ * são configurados em {@code spring.cache.caffeine.spec}.
+ * <p>
+ * O gerenciador é transacional: dentro de uma transação, inclusões e remoções no cache só acontecem após o commit.
+ * Sem isso, uma leitura concorrente entre o {@code @CacheEvict} e o commit da escrita recolocaria no cache a versão
+ * antiga do seguro até o fim do TTL.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        if (StringUtils.hasText(cacheProperties.getCaffeine().getSpec())) {
+            caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
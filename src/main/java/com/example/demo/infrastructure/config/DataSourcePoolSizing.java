@@ -0,0 +1,47 @@
+package com.example.demo.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dimensiona o pool do Hikari pela quantidade de CPUs ({@code núcleos * app.datasource.pool-size-per-cpu}),
+ * seguindo a fórmula do HikariCP de poucas conexões por núcleo, e fixa o {@code minimum-idle} no mesmo valor
+ * para que o pool não precise abrir conexões sob pico. Valores explícitos em {@code spring.datasource.hikari.*}
+ * continuam tendo precedência.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.pool-size-per-cpu")
+public class DataSourcePoolSizing implements BeanPostProcessor {
+
+    private final Environment environment;
+    private final int availableProcessors;
+
+    @Autowired
+    public DataSourcePoolSizing(Environment environment) {
+        this(environment, Runtime.getRuntime().availableProcessors());
+    }
+
+    DataSourcePoolSizing(Environment environment, int availableProcessors) {
+        this.environment = environment;
+        this.availableProcessors = availableProcessors;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            int perCpu = environment.getRequiredProperty("app.datasource.pool-size-per-cpu", Integer.class);
+            int poolSize = Math.max(2, availableProcessors * perCpu);
+            if (!environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+                dataSource.setMaximumPoolSize(poolSize);
+            }
+            if (!environment.containsProperty("spring.datasource.hikari.minimum-idle")) {
+                dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+            }
+        }
+        return bean;
+    }
+}
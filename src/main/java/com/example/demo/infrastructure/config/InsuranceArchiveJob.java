@@ -0,0 +1,59 @@
+package com.example.demo.infrastructure.config;
+
+import com.example.demo.application.ports.InsuranceServicePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Move periodicamente para a tabela de arquivo os seguros vencidos há mais de {@code app.archive.retention},
+ * mantendo a tabela principal com a carteira ativa. Cada lote é uma transação própria, então o job pode ser
+ * interrompido a qualquer momento sem deixar um seguro nas duas tabelas.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+public class InsuranceArchiveJob {
+
+    private final InsuranceServicePort service;
+    private final Period retention;
+    private final int batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public InsuranceArchiveJob(InsuranceServicePort service,
+                               @Value("${app.archive.retention:P1Y}") Period retention,
+                               @Value("${app.archive.batch-size:1000}") int batchSize) {
+        this(service, retention, batchSize, Clock.systemDefaultZone());
+    }
+
+    InsuranceArchiveJob(InsuranceServicePort service, Period retention, int batchSize, Clock clock) {
+        this.service = service;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * @return Quantidade total de seguros arquivados nesta execução.
+     */
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public long archiveExpiredInsurances() {
+        LocalDate endedBefore = LocalDate.now(clock).minus(retention);
+        long archived = 0;
+        int moved;
+        do {
+            moved = service.archiveInsurancesEndedBefore(endedBefore, batchSize);
+            archived += moved;
+        } while (moved == batchSize);
+        log.info("Archived {} insurances ended before {}", archived, endedBefore);
+        return archived;
+    }
+}
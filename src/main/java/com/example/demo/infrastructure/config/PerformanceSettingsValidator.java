@@ -0,0 +1,83 @@
+package com.example.demo.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Confere na inicialização as configurações que mais pesam no desempenho (pool, batch JDBC, open-in-view,
+ * virtual threads) e registra um aviso para cada uma que estiver fora do esperado. Não impede a subida.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.performance-validation.enabled", havingValue = "true")
+public class PerformanceSettingsValidator implements ApplicationRunner {
+
+    static final Duration MAX_CONNECTION_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Environment environment;
+    private final ObjectProvider<DataSource> dataSource;
+
+    public PerformanceSettingsValidator(Environment environment, ObjectProvider<DataSource> dataSource) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        validate(Runtime.getRuntime().availableProcessors())
+                .forEach(warning -> log.warn("Performance settings: {}", warning));
+    }
+
+    List<String> validate(int availableProcessors) {
+        List<String> warnings = new ArrayList<>();
+
+        int batchSize = environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 0);
+        if (batchSize <= 1) {
+            warnings.add("hibernate.jdbc.batch_size is not set; inserts and updates are sent one statement at a time");
+        }
+        for (String ordering : List.of("order_inserts", "order_updates")) {
+            if (!environment.getProperty("spring.jpa.properties.hibernate." + ordering, Boolean.class, false)) {
+                warnings.add("hibernate." + ordering + " is disabled; mixed-entity flushes break JDBC batches");
+            }
+        }
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            warnings.add("spring.jpa.open-in-view is enabled; each request holds a connection until the response is written");
+        }
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean limiter = environment.getProperty("app.connection-limiter.enabled", Boolean.class, false);
+        if (virtualThreads && !limiter) {
+            warnings.add("virtual threads are enabled without app.connection-limiter; requests will queue inside the pool");
+        }
+
+        if (dataSource.getIfAvailable() instanceof HikariDataSource hikari) {
+            int maximumPoolSize = hikari.getMaximumPoolSize();
+            if (maximumPoolSize < availableProcessors) {
+                warnings.add("maximum-pool-size " + maximumPoolSize + " is below the " + availableProcessors
+                        + " available processors");
+            } else if (maximumPoolSize > availableProcessors * 4) {
+                warnings.add("maximum-pool-size " + maximumPoolSize + " is more than 4 connections per processor ("
+                        + availableProcessors + "); extra connections mostly add contention");
+            }
+            if (hikari.getMinimumIdle() < maximumPoolSize) {
+                warnings.add("minimum-idle " + hikari.getMinimumIdle() + " is below maximum-pool-size " + maximumPoolSize
+                        + "; connections are opened under load instead of at startup");
+            }
+            if (hikari.getConnectionTimeout() > MAX_CONNECTION_TIMEOUT.toMillis()) {
+                warnings.add("connection-timeout " + hikari.getConnectionTimeout() + "ms is above "
+                        + MAX_CONNECTION_TIMEOUT.toMillis() + "ms; callers wait that long before failing");
+            }
+        }
+        return warnings;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.infrastructure.config;
+
+import com.example.demo.application.service.PortfolioSnapshotService;
+import com.example.demo.domain.model.PortfolioSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Expõe em {@code /actuator/portfoliosnapshot} o tamanho e a memória estimada do snapshot colunar.
+ * Um POST no mesmo caminho força a recarga sem esperar o próximo intervalo.
+ */
+@Component
+@Endpoint(id = "portfoliosnapshot")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+public class PortfolioSnapshotEndpoint {
+
+    private final PortfolioSnapshotService snapshotService;
+
+    @ReadOperation
+    public SnapshotReport report() {
+        return snapshotService.getSnapshot().map(SnapshotReport::of).orElse(SnapshotReport.EMPTY);
+    }
+
+    @WriteOperation
+    public SnapshotReport refresh() {
+        return SnapshotReport.of(snapshotService.refresh());
+    }
+
+    public record SnapshotReport(boolean loaded, Instant createdAt, int rows, int distinctHolderNames,
+                                 long columnBytes, long dictionaryBytes, long totalBytes) {
+
+        static final SnapshotReport EMPTY = new SnapshotReport(false, null, 0, 0, 0, 0, 0);
+
+        static SnapshotReport of(PortfolioSnapshot snapshot) {
+            PortfolioSnapshot.Footprint footprint = snapshot.footprint();
+            return new SnapshotReport(true, snapshot.getCreatedAt(), footprint.rows(), footprint.distinctHolderNames(),
+                    footprint.columnBytes(), footprint.dictionaryBytes(), footprint.totalBytes());
+        }
+    }
+}
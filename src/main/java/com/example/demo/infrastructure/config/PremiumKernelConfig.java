@@ -0,0 +1,43 @@
+package com.example.demo.infrastructure.config;
+
+import com.example.demo.application.ports.PremiumKernelFactory;
+import com.example.demo.domain.model.PremiumKernel;
+import com.example.demo.domain.model.RatingTable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+
+/**
+ * Escolhe o kernel da retarifação em lote. O kernel com a Vector API (incubadora) só existe no build com
+ * {@code -Pvector} e só é usado quando a JVM sobe com {@code --add-modules jdk.incubator.vector}; nos demais casos,
+ * o laço escalar.
+ */
+@Configuration
+public class PremiumKernelConfig {
+
+    static final String VECTOR_KERNEL_CLASS = "com.example.demo.infrastructure.adapters.VectorPremiumKernel";
+
+    @Bean
+    public PremiumKernelFactory premiumKernelFactory() {
+        return vectorKernelFactory().orElse(PremiumKernel::scalar);
+    }
+
+    public static Optional<PremiumKernelFactory> vectorKernelFactory() {
+        ClassLoader classLoader = PremiumKernelConfig.class.getClassLoader();
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()
+                || !ClassUtils.isPresent(VECTOR_KERNEL_CLASS, classLoader)) {
+            return Optional.empty();
+        }
+        try {
+            Constructor<? extends PremiumKernel> constructor = ClassUtils.forName(VECTOR_KERNEL_CLASS, classLoader)
+                    .asSubclass(PremiumKernel.class).getConstructor(RatingTable.class);
+            return Optional.of(ratingTable -> BeanUtils.instantiateClass(constructor, ratingTable));
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw new IllegalStateException("Cannot load " + VECTOR_KERNEL_CLASS, e);
+        }
+    }
+}
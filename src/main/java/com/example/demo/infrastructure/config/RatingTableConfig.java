@@ -0,0 +1,30 @@
+package com.example.demo.infrastructure.config;
+
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.RatingTable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Carrega de {@code app.repricing.*} a tabela que a simulação de retarifação usa quando a requisição não traz uma.
+ * Não altera o prêmio servido, que segue {@link Insurance#PREMIUM_RATE}. Sem configuração, vale a
+ * {@link RatingTable#standard()}; uma tabela inválida impede a subida.
+ */
+@Configuration
+@EnableConfigurationProperties(RatingTableConfig.RatingTableProperties.class)
+public class RatingTableConfig {
+
+    @Bean
+    public RatingTable ratingTable(RatingTableProperties properties) {
+        return new RatingTable(properties.baseRate() != null ? properties.baseRate() : Insurance.PREMIUM_RATE,
+                properties.minimumPremium(), properties.bands());
+    }
+
+    @ConfigurationProperties("app.repricing")
+    public record RatingTableProperties(Double baseRate, double minimumPremium, List<RatingTable.RiskBand> bands) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Liga o agendamento apenas quando há tarefas periódicas configuradas (recarga do snapshot da carteira e
+ * arquivamento de seguros vencidos).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnExpression("${app.snapshot.enabled:false} or ${app.archive.enabled:false}")
+public class SchedulingConfig {
+}
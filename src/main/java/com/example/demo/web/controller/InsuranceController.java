@@ -1,49 +1,259 @@
 package com.example.demo.web.controller;
 
 
+import com.example.demo.application.ports.InsuranceRowReader;
+import com.example.demo.application.service.InsuranceImportService;
 import com.example.demo.application.service.InsuranceServiceImpl;
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.BatchPremiumResult;
+import com.example.demo.domain.model.BookRepricing;
+import com.example.demo.domain.model.ImportReport;
 import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import com.example.demo.domain.model.PremiumRequest;
+import com.example.demo.domain.model.RatingTable;
+import com.example.demo.web.exporter.ExportFormat;
+import com.example.demo.web.exporter.InsuranceExportWriter;
+import com.example.demo.web.importer.CsvInsuranceRowReader;
+import com.example.demo.web.importer.NdjsonInsuranceRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
 
 @RestController
 @RequestMapping("/api/insurance")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class InsuranceController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_BATCH_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final int MAX_PREMIUM_BATCH_SIZE = 10_000;
+
     @Autowired
     private final InsuranceServiceImpl service;
 
+    private final InsuranceImportService importService;
+
+    private final ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<Insurance> createInsurance(@RequestBody Insurance insurance) {
-        Insurance createdInsurance = service.createInsurance(insurance);
-        return ResponseEntity.status(201).body(createdInsurance);
+        try {
+            Insurance createdInsurance = service.createInsurance(insurance);
+            return ResponseEntity.status(201).body(createdInsurance);
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(409).build();
+        }
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Insurance>> createInsurances(@RequestBody List<Insurance> insurances) {
+        if (insurances.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            List<Insurance> createdInsurances = service.createInsurances(insurances);
+            return ResponseEntity.status(201).body(createdInsurances);
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(409).build();
+        }
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<List<Insurance>> updateInsurances(@RequestBody List<Insurance> insurances) {
+        if (insurances.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            List<Insurance> updatedInsurances = service.updateInsurances(insurances);
+            return ResponseEntity.ok(updatedInsurances);
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            return ResponseEntity.status(409).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<Map<String, Integer>> deleteInsurances(@RequestBody List<Long> ids) {
+        if (ids.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        int deleted = service.deleteInsurances(ids);
+        return ResponseEntity.ok(Map.of("deleted", deleted));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportReport> importInsurances(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                         InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        InsuranceRowReader rowReader = APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? new NdjsonInsuranceRowReader(reader, objectMapper)
+                : new CsvInsuranceRowReader(reader);
+        try {
+            return ResponseEntity.ok(importService.importInsurances(rowReader));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping
-    public ResponseEntity<List<Insurance>> getAllInsurances() {
-        List<Insurance> insurances = service.getAllInsurances();
-        return ResponseEntity.ok(insurances);
+    public ResponseEntity<List<Map<String, Object>>> getAllInsurances(@RequestParam(required = false) Long after,
+                                                                      @RequestParam(defaultValue = "100") int limit,
+                                                                      @RequestParam(required = false) String fields,
+                                                                      @RequestParam(defaultValue = "false") boolean includeArchived) {
+        int pageSize = clampPageSize(limit);
+        Set<InsuranceField> selected;
+        List<InsuranceProjection> insurances;
+        try {
+            selected = InsuranceField.parse(fields);
+            insurances = includeArchived
+                    ? service.getInsurancesPage(selected, after, pageSize, true)
+                    : service.getInsurancesPage(selected, after, pageSize);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (insurances.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(insurances.get(insurances.size() - 1).id()));
+        }
+        return response.body(toSparseMaps(selected, insurances));
+    }
+
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllInsurances() {
+        StreamingResponseBody body = outputStream -> {
+            try {
+                service.streamAllInsurances(STREAM_BATCH_SIZE, insurance -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(insurance));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInsurances(@RequestParam(defaultValue = "CSV") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> {
+            InsuranceExportWriter writer = format.newWriter(outputStream, objectMapper);
+            try {
+                service.exportInsurances(row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"insurances." + format.name().toLowerCase() + "\"")
+                .body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Insurance> getInsurance(@PathVariable Long id) {
-        Optional<Insurance> insurance = service.getInsuranceById(id);
-        return insurance.map(ResponseEntity::ok)
+    public ResponseEntity<Insurance> getInsurance(@PathVariable Long id,
+                                                  @RequestParam(defaultValue = "false") boolean includeArchived) {
+        // A leitura vem do cache; com If-None-Match igual à versão o Spring responde 304 sem serializar o corpo.
+        // O arquivo só é consultado quando pedido e não passa pelo cache
+        Optional<Insurance> insurance = includeArchived ? service.getInsuranceById(id, true) : service.getInsuranceById(id);
+        return insurance.map(found -> ResponseEntity.ok().eTag(String.valueOf(found.getVersion())).body(found))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/by-policy-number/{policyNumber}")
+    public ResponseEntity<Insurance> getInsuranceByPolicyNumber(@PathVariable String policyNumber,
+                                                                @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return service.getInsuranceByPolicyNumber(policyNumber, includeArchived)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/by-holder-name")
+    public ResponseEntity<List<Map<String, Object>>> findInsurancesByHolderName(@RequestParam String prefix,
+                                                                                @RequestParam(defaultValue = "100") int limit,
+                                                                                @RequestParam(required = false) String fields) {
+        if (prefix.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Set<InsuranceField> selected = InsuranceField.parse(fields);
+            return ResponseEntity.ok(toSparseMaps(selected,
+                    service.findInsurancesByHolderNamePrefix(selected, prefix, clampPageSize(limit))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/by-claim-date")
+    public ResponseEntity<List<Map<String, Object>>> findInsurancesByClaimDate(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String fields) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Set<InsuranceField> selected = InsuranceField.parse(fields);
+            return ResponseEntity.ok(toSparseMaps(selected,
+                    service.findInsurancesByClaimDateRange(selected, from, to, clampPageSize(limit))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Insurance> updateInsurance(@PathVariable Long id, @RequestBody Insurance updatedInsurance) {
         try {
             Insurance insurance = service.updateInsurance(id, updatedInsurance);
             return ResponseEntity.ok(insurance);
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            return ResponseEntity.status(409).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -69,12 +279,80 @@ public class InsuranceController {
         }
     }
 
+    @PostMapping("/premium/batch")
+    public ResponseEntity<BatchPremiumResult> calculatePremiums(@RequestBody List<PremiumRequest> requests) {
+        if (requests.size() > MAX_PREMIUM_BATCH_SIZE || requests.stream().anyMatch(request -> request.id() == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.calculatePremiums(requests));
+    }
+
+    /**
+     * Simula a retarifação da carteira inteira, sem alterar nada. Sem corpo usa a tabela configurada em
+     * {@code app.repricing.*}; com corpo, a tabela enviada.
+     */
+    @PostMapping("/premium/reprice")
+    public ResponseEntity<BookRepricing> repriceBook(@RequestBody(required = false) RatingTable ratingTable) {
+        return ResponseEntity.ok(ratingTable == null ? service.repriceBook() : service.repriceBook(ratingTable));
+    }
+
     @GetMapping("/total-premium-by-month")
-    public ResponseEntity<Map<Integer, Double>> calculateTotalPremiumByMonth() {
-        Map<Integer, Double> premiumsByMonth = service.calculateTotalPremiumByMonth();
+    public ResponseEntity<Map<Integer, Double>> calculateTotalPremiumByMonth(
+            @RequestParam(defaultValue = "CLAIM_DATE") InsuranceDateField dateField,
+            @RequestParam(defaultValue = "SEQUENTIAL") AggregationMode mode,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request) {
+        String eTag = service.getTotalPremiumByMonthVersion(dateField);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        Map<Integer, Double> premiumsByMonth = includeArchived
+                ? service.calculateTotalPremiumByMonth(dateField, mode, true)
+                : service.calculateTotalPremiumByMonth(dateField, mode);
         if (premiumsByMonth.isEmpty()) {
-            return ResponseEntity.status(204).body(null);
+            return ResponseEntity.status(204).eTag(eTag).body(null);
+        }
+        return ResponseEntity.ok().eTag(eTag).body(premiumsByMonth);
+    }
+
+    @GetMapping("/total-premium-by-year-month")
+    public ResponseEntity<SortedMap<YearMonth, Double>> calculateTotalPremiumByYearMonth(
+            @RequestParam(defaultValue = "CLAIM_DATE") InsuranceDateField dateField,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request) {
+        String eTag = service.getTotalPremiumByYearMonthVersion();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        SortedMap<YearMonth, Double> premiumsByYearMonth = includeArchived
+                ? service.calculateTotalPremiumByYearMonth(dateField, true)
+                : service.calculateTotalPremiumByYearMonth(dateField);
+        if (premiumsByYearMonth.isEmpty()) {
+            return ResponseEntity.status(204).eTag(eTag).body(null);
         }
-        return ResponseEntity.ok(premiumsByMonth);
+        return ResponseEntity.ok().eTag(eTag).body(premiumsByYearMonth);
+    }
+
+    @PostMapping("/total-premium-by-month/rebuild")
+    public ResponseEntity<Void> rebuildTotalPremiumByMonth() {
+        service.rebuildPremiumByMonthRollup();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Corpo das leituras com {@code fields=}: só as propriedades pedidas, na ordem de declaração dos campos.
+     */
+    private static List<Map<String, Object>> toSparseMaps(Set<InsuranceField> fields, List<InsuranceProjection> insurances) {
+        List<Map<String, Object>> body = new ArrayList<>(insurances.size());
+        for (InsuranceProjection insurance : insurances) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            fields.forEach(field -> values.put(field.getName(), insurance.get(field)));
+            body.add(values);
+        }
+        return body;
+    }
+
+    private static int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 }
@@ -0,0 +1,55 @@
+package com.example.demo.web.controller;
+
+import com.example.demo.application.service.InsuranceImportService;
+import com.example.demo.application.service.InsuranceIngestionQueue;
+import com.example.demo.domain.model.IngestionStatus;
+import com.example.demo.domain.model.Insurance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Ingestão assíncrona ({@code app.ingestion.enabled=true}). O POST valida o seguro com as regras da importação
+ * ({@link InsuranceImportService#validate}) e responde 400 sem enfileirar se for inválido; senão responde 202 assim
+ * que o seguro entra na fila, com o id de acompanhamento e o {@code Location} da situação. Com a fila cheia responde
+ * 503 e {@code Retry-After}. O seguro só está gravado quando a situação consultada for {@code COMPLETED}.
+ */
+@RestController
+@RequestMapping("/api/insurance/ingestion")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.ingestion.enabled", havingValue = "true")
+public class InsuranceIngestionController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final InsuranceIngestionQueue ingestionQueue;
+
+    @PostMapping
+    public ResponseEntity<IngestionStatus> submitInsurance(@RequestBody Insurance insurance) {
+        if (InsuranceImportService.validate(insurance) != null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ingestionQueue.submit(insurance)
+                .map(status -> ResponseEntity.accepted()
+                        .location(URI.create("/api/insurance/ingestion/" + status.trackingId()))
+                        .body(status))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<IngestionStatus> getStatus(@PathVariable UUID trackingId) {
+        return ingestionQueue.getStatus(trackingId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
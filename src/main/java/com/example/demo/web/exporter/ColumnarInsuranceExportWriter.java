@@ -0,0 +1,112 @@
+package com.example.demo.web.exporter;
+
+import com.example.demo.domain.model.InsuranceExportRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Exporta em um formato binário colunar compacto, em blocos de até {@value #BLOCK_SIZE} linhas, de modo que a
+ * memória usada é a de um bloco independentemente do tamanho da carteira.
+ * <p>
+ * Layout (big-endian): cabeçalho {@code "INSC"} + versão ({@code int}); cada bloco traz a quantidade de linhas
+ * ({@code int}) seguida das colunas {@code id} ({@code long[]}), {@code startDate}, {@code endDate} e
+ * {@code claimDate} como epoch-day ({@code int[]}, {@link #NULL_DATE} para ausente), {@code insuredAmount},
+ * {@code riskFactor} e {@code premium} ({@code double[]}), e {@code policyNumber} e {@code holderName} como
+ * UTF-8 com tamanho ({@code int}) prefixado. O fim é marcado por um bloco com 0 linhas.
+ */
+public class ColumnarInsuranceExportWriter implements InsuranceExportWriter {
+
+    static final int MAGIC = 0x494E5343; // "INSC"
+    static final int VERSION = 1;
+    static final int BLOCK_SIZE = 4096;
+    static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private final DataOutputStream output;
+    private final long[] ids = new long[BLOCK_SIZE];
+    private final int[] startDates = new int[BLOCK_SIZE];
+    private final int[] endDates = new int[BLOCK_SIZE];
+    private final int[] claimDates = new int[BLOCK_SIZE];
+    private final double[] insuredAmounts = new double[BLOCK_SIZE];
+    private final double[] riskFactors = new double[BLOCK_SIZE];
+    private final double[] premiums = new double[BLOCK_SIZE];
+    private final String[] policyNumbers = new String[BLOCK_SIZE];
+    private final String[] holderNames = new String[BLOCK_SIZE];
+    private int size;
+
+    public ColumnarInsuranceExportWriter(OutputStream outputStream) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(outputStream, 64 * 1024));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+    }
+
+    @Override
+    public void write(InsuranceExportRow row) throws IOException {
+        ids[size] = row.id();
+        startDates[size] = epochDay(row.startDate());
+        endDates[size] = epochDay(row.endDate());
+        claimDates[size] = epochDay(row.claimDate());
+        insuredAmounts[size] = row.insuredAmount();
+        riskFactors[size] = row.riskFactor();
+        premiums[size] = row.premium();
+        policyNumbers[size] = row.policyNumber();
+        holderNames[size] = row.holderName();
+        if (++size == BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (size > 0) {
+            writeBlock();
+        }
+        output.writeInt(0);
+        output.flush();
+    }
+
+    private void writeBlock() throws IOException {
+        output.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            output.writeLong(ids[i]);
+        }
+        writeInts(startDates);
+        writeInts(endDates);
+        writeInts(claimDates);
+        writeDoubles(insuredAmounts);
+        writeDoubles(riskFactors);
+        writeDoubles(premiums);
+        writeStrings(policyNumbers);
+        writeStrings(holderNames);
+        size = 0;
+    }
+
+    private void writeInts(int[] column) throws IOException {
+        for (int i = 0; i < size; i++) {
+            output.writeInt(column[i]);
+        }
+    }
+
+    private void writeDoubles(double[] column) throws IOException {
+        for (int i = 0; i < size; i++) {
+            output.writeDouble(column[i]);
+        }
+    }
+
+    private void writeStrings(String[] column) throws IOException {
+        for (int i = 0; i < size; i++) {
+            byte[] bytes = column[i].getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+            column[i] = null;
+        }
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date == null ? NULL_DATE : (int) date.toEpochDay();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.web.exporter;
+
+import com.example.demo.domain.model.InsuranceExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Exporta em CSV com cabeçalho, no mesmo layout de colunas aceito pela importação, mais id e premium.
+ */
+public class CsvInsuranceExportWriter implements InsuranceExportWriter {
+
+    static final String HEADER = "id,policyNumber,holderName,startDate,endDate,claimDate,insuredAmount,riskFactor,premium";
+
+    private final Writer writer;
+
+    public CsvInsuranceExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(InsuranceExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writeText(row.policyNumber());
+        writer.write(',');
+        writeText(row.holderName());
+        writer.write(',');
+        writeDate(row.startDate());
+        writer.write(',');
+        writeDate(row.endDate());
+        writer.write(',');
+        writeDate(row.claimDate());
+        writer.write(',');
+        writer.write(Double.toString(row.insuredAmount()));
+        writer.write(',');
+        writer.write(Double.toString(row.riskFactor()));
+        writer.write(',');
+        writer.write(Double.toString(row.premium()));
+        writer.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeDate(LocalDate date) throws IOException {
+        if (date != null) {
+            writer.write(date.toString());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.web.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Formatos suportados pela exportação da carteira.
+ */
+public enum ExportFormat {
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+    COLUMNAR(MediaType.parseMediaType("application/vnd.insurance.columnar"));
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public InsuranceExportWriter newWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvInsuranceExportWriter(outputStream);
+            case NDJSON -> new NdjsonInsuranceExportWriter(outputStream, objectMapper);
+            case COLUMNAR -> new ColumnarInsuranceExportWriter(outputStream);
+        };
+    }
+}
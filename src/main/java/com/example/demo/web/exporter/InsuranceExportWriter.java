@@ -0,0 +1,18 @@
+package com.example.demo.web.exporter;
+
+import com.example.demo.domain.model.InsuranceExportRow;
+
+import java.io.IOException;
+
+/**
+ * Escreve as linhas exportadas diretamente no stream de saída, à medida que são lidas do cursor.
+ */
+public interface InsuranceExportWriter {
+
+    void write(InsuranceExportRow row) throws IOException;
+
+    /**
+     * Descarrega o que estiver em buffer e escreve o rodapé do formato, se houver.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,35 @@
+package com.example.demo.web.exporter;
+
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exporta um objeto JSON por linha, reaproveitando um único gerador Jackson sobre o stream de saída.
+ */
+public class NdjsonInsuranceExportWriter implements InsuranceExportWriter {
+
+    private final SequenceWriter sequenceWriter;
+
+    public NdjsonInsuranceExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.sequenceWriter = objectMapper.writerFor(InsuranceExportRow.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+    }
+
+    @Override
+    public void write(InsuranceExportRow row) throws IOException {
+        sequenceWriter.write(row);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        sequenceWriter.flush();
+        sequenceWriter.close();
+    }
+}
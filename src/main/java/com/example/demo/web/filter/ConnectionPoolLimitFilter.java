@@ -0,0 +1,136 @@
+package com.example.demo.web.filter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita as requisições simultâneas da API ao tamanho do pool de conexões JDBC.
+ * Com virtual threads não há mais o teto do pool do Tomcat, então sem esse limite milhares de
+ * requisições ficariam enfileiradas no Hikari até estourar o connection-timeout; aqui elas esperam
+ * no máximo {@code app.connection-limiter.acquire-timeout} e recebem 503 com Retry-After.
+ * <p>
+ * A ingestão assíncrona ({@code /api/insurance/ingestion}) fica de fora: o envio só enfileira e a consulta de
+ * situação lê a memória; a gravação acontece numa única thread própria. As demais rotas da API tomam uma permissão
+ * mesmo quando acabam não usando o banco (acerto de cache em {@code /{id}} e {@code /premium/{id}}), porque isso só
+ * se sabe dentro do handler; um GET condicional que termina em 304 ainda lê o contador de alterações no banco.
+ */
+@Component
+@ConditionalOnProperty(name = "app.connection-limiter.enabled", havingValue = "true")
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_PERMITS = 10;
+    private static final String API_PATH = "/api/";
+    private static final String INGESTION_PATH = "/api/insurance/ingestion";
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    @Autowired
+    public ConnectionPoolLimitFilter(ObjectProvider<DataSource> dataSource,
+                                     @Value("${app.connection-limiter.acquire-timeout:2s}") Duration acquireTimeout) {
+        this(permitsFor(dataSource.getIfAvailable()), acquireTimeout);
+    }
+
+    ConnectionPoolLimitFilter(int permits, Duration acquireTimeout) {
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Caminho sem o context path (server.servlet.context-path)
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        return !path.startsWith(API_PATH) || path.equals(INGESTION_PATH) || path.startsWith(INGESTION_PATH + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        boolean releaseOnAsyncCompletion = false;
+        try {
+            filterChain.doFilter(request, response);
+            // Respostas assíncronas (StreamingResponseBody de /stream e /export) seguem com o cursor JDBC aberto
+            // depois que o filtro retorna; a permissão só é devolvida quando a requisição termina de fato
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+                releaseOnAsyncCompletion = true;
+            }
+        } finally {
+            if (!releaseOnAsyncCompletion) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Devolve a permissão uma única vez, seja qual for o evento que encerrou a requisição assíncrona.
+     */
+    private final class ReleaseOnCompletion implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Um novo ciclo assíncrono na mesma requisição: continua ouvindo o fim dele
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private static int permitsFor(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_PERMITS;
+    }
+}
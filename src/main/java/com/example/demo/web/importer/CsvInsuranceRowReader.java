@@ -0,0 +1,128 @@
+package com.example.demo.web.importer;
+
+import com.example.demo.application.ports.InsuranceRowReader;
+import com.example.demo.domain.model.Insurance;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lê seguros de um CSV com cabeçalho (policyNumber,holderName,startDate,endDate,claimDate,insuredAmount,riskFactor,
+ * em qualquer ordem), uma linha por vez. Campos podem vir entre aspas duplas; quebras de linha dentro de campos não
+ * são suportadas.
+ */
+public class CsvInsuranceRowReader implements InsuranceRowReader {
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("policyNumber", "holderName", "startDate", "endDate", "insuredAmount", "riskFactor");
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private long line;
+
+    public CsvInsuranceRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        List<String> fields = split(text);
+        if (fields == null) {
+            return Row.failed(line, "unterminated quoted field");
+        }
+        try {
+            return Row.parsed(line, Insurance.builder()
+                    .policyNumber(field(fields, "policyNumber"))
+                    .holderName(field(fields, "holderName"))
+                    .startDate(date(fields, "startDate"))
+                    .endDate(date(fields, "endDate"))
+                    .claimDate(date(fields, "claimDate"))
+                    .insuredAmount(Double.parseDouble(field(fields, "insuredAmount")))
+                    .riskFactor(Double.parseDouble(field(fields, "riskFactor")))
+                    .build());
+        } catch (RuntimeException e) {
+            return Row.failed(line, "invalid value: " + e.getMessage());
+        }
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        columns = new HashMap<>();
+        List<String> names = header == null ? List.of() : split(header);
+        if (names == null) {
+            throw new IllegalArgumentException("Invalid CSV header");
+        }
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        if (header != null && !columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new IllegalArgumentException("CSV header must contain " + REQUIRED_COLUMNS);
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private LocalDate date(List<String> fields, String column) {
+        String value = field(fields, column);
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    /**
+     * @return Os campos da linha, ou {@code null} se uma aspa não foi fechada.
+     */
+    static List<String> split(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.web.importer;
+
+import com.example.demo.application.ports.InsuranceRowReader;
+import com.example.demo.domain.model.Insurance;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Lê seguros de um NDJSON (um objeto JSON por linha), uma linha por vez.
+ */
+public class NdjsonInsuranceRowReader implements InsuranceRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader insuranceReader;
+    private long line;
+
+    public NdjsonInsuranceRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.insuranceReader = objectMapper.readerFor(Insurance.class);
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        try {
+            Insurance insurance = insuranceReader.readValue(text);
+            // A linha "null" é JSON válido, mas não é um seguro
+            return insurance == null ? Row.failed(line, "expected a JSON object") : Row.parsed(line, insurance);
+        } catch (JsonProcessingException e) {
+            return Row.failed(line, "invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- Linhas fixas das tabelas de consolidação, criadas uma única vez. As escritas apenas as atualizam,
+-- então nunca há duas transações tentando inserir a mesma linha.
+insert into change_counter (table_name, change_count) select 'insurance', 0 where not exists (select 1 from change_counter where table_name = 'insurance');
+insert into premium_by_month (claim_month, total_premium, claim_count) select 1, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 1);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 2, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 2);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 3, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 3);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 4, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 4);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 5, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 5);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 6, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 6);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 7, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 7);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 8, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 8);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 9, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 9);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 10, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 10);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 11, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 11);
+insert into premium_by_month (claim_month, total_premium, claim_count) select 12, 0, 0 where not exists (select 1 from premium_by_month where claim_month = 12);
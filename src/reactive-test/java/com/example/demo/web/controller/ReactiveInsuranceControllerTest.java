@@ -0,0 +1,108 @@
+package com.example.demo.web.controller;
+
+import com.example.demo.domain.model.Insurance;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-test;DB_CLOSE_DELAY=-1",
+        "app.reactive.r2dbc-url=r2dbc:h2:mem:///reactive-test?options=DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("reactive")
+class ReactiveInsuranceControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void shouldReadThroughR2dbcWhatWasWrittenThroughJpa() {
+        // Given
+        Insurance insurance = Insurance.builder()
+                .policyNumber("RX-1")
+                .holderName("Maria Souza")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 1))
+                .claimDate(LocalDate.of(2025, 3, 15))
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build();
+        Insurance created = webTestClient.post().uri("/api/insurance").bodyValue(insurance)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Insurance.class).returnResult().getResponseBody();
+        assertNotNull(created);
+
+        // When / Then
+        webTestClient.get().uri("/api/insurance/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.policyNumber").isEqualTo("RX-1")
+                .jsonPath("$.claimDate").isEqualTo("2025-03-15");
+        webTestClient.get().uri("/api/insurance/by-policy-number/RX-1")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/insurance?limit=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].policyNumber").isEqualTo("RX-1");
+        webTestClient.get().uri("/api/insurance/premium/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Double.class).isEqualTo(6000.0);
+        webTestClient.get().uri("/api/insurance/total-premium-by-month")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.3").isEqualTo(6000.0);
+    }
+
+    @Test
+    void shouldReturnConflictWhenUpdateReusesAnotherPolicyNumber() {
+        // Given
+        Insurance first = webTestClient.post().uri("/api/insurance").bodyValue(newInsurance("RX-DUP-1"))
+                .exchange()
+                .expectBody(Insurance.class).returnResult().getResponseBody();
+        Insurance second = webTestClient.post().uri("/api/insurance").bodyValue(newInsurance("RX-DUP-2"))
+                .exchange()
+                .expectBody(Insurance.class).returnResult().getResponseBody();
+        assertNotNull(first);
+        assertNotNull(second);
+
+        // When & Then
+        webTestClient.put().uri("/api/insurance/{id}", second.getId()).bodyValue(newInsurance("RX-DUP-1"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+        webTestClient.delete().uri("/api/insurance/{id}", first.getId()).exchange().expectStatus().isNoContent();
+        webTestClient.delete().uri("/api/insurance/{id}", second.getId()).exchange().expectStatus().isNoContent();
+    }
+
+    private static Insurance newInsurance(String policyNumber) {
+        return Insurance.builder()
+                .policyNumber(policyNumber)
+                .holderName("João Silva")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 1))
+                .insuredAmount(50000.0)
+                .riskFactor(1.0)
+                .build();
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingInsurance() {
+        webTestClient.get().uri("/api/insurance/{id}", 999_999)
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.delete().uri("/api/insurance/{id}", 999_999)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
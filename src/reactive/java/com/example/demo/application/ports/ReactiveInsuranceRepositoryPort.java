@@ -0,0 +1,25 @@
+package com.example.demo.application.ports;
+
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.MonthlyPremium;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Leituras não bloqueantes de seguros, para o stack reativo. As escritas continuam no {@link InsuranceRepositoryPort}.
+ */
+public interface ReactiveInsuranceRepositoryPort {
+    Mono<Insurance> findById(Long id);
+
+    /**
+     * Paginação por cursor (keyset), como {@link InsuranceRepositoryPort#findPageAfter(Long, int)}.
+     */
+    Flux<Insurance> findPageAfter(Long afterId, int limit);
+
+    Mono<Insurance> findByPolicyNumber(String policyNumber);
+
+    /**
+     * @return Os meses da tabela de consolidação que possuem sinistros, em ordem crescente de mês.
+     */
+    Flux<MonthlyPremium> findMonthsWithClaims();
+}
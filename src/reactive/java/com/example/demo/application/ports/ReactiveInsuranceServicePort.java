@@ -0,0 +1,15 @@
+package com.example.demo.application.ports;
+
+import com.example.demo.domain.model.Insurance;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface ReactiveInsuranceServicePort {
+    Mono<Insurance> getInsuranceById(Long id);
+    Flux<Insurance> getInsurancesPage(Long afterId, int limit);
+    Mono<Insurance> getInsuranceByPolicyNumber(String policyNumber);
+    Mono<Double> calculatePremium(Long id);
+    Mono<Map<Integer, Double>> calculateTotalPremiumByMonth();
+}
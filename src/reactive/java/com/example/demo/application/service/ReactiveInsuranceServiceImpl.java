@@ -0,0 +1,47 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.ReactiveInsuranceRepositoryPort;
+import com.example.demo.application.ports.ReactiveInsuranceServicePort;
+import com.example.demo.domain.model.Insurance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveInsuranceServiceImpl implements ReactiveInsuranceServicePort {
+
+    private final ReactiveInsuranceRepositoryPort repository;
+
+    @Override
+    public Mono<Insurance> getInsuranceById(Long id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    public Flux<Insurance> getInsurancesPage(Long afterId, int limit) {
+        return repository.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Mono<Insurance> getInsuranceByPolicyNumber(String policyNumber) {
+        return repository.findByPolicyNumber(policyNumber);
+    }
+
+    @Override
+    public Mono<Double> calculatePremium(Long id) {
+        return repository.findById(id).map(Insurance::calculatePremium);
+    }
+
+    @Override
+    public Mono<Map<Integer, Double>> calculateTotalPremiumByMonth() {
+        return repository.findMonthsWithClaims()
+                .collect(() -> new LinkedHashMap<>(), (premiums, row) -> premiums.put(row.month(), row.totalPremium()));
+    }
+}
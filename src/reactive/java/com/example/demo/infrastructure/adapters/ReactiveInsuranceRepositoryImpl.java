@@ -0,0 +1,76 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.application.ports.ReactiveInsuranceRepositoryPort;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.MonthlyPremium;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Adaptador R2DBC sobre as mesmas tabelas mapeadas pelo JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveInsuranceRepositoryImpl implements ReactiveInsuranceRepositoryPort {
+
+    private static final String SELECT_INSURANCE = "select id, version, policy_number, holder_name, start_date, "
+            + "end_date, claim_date, insured_amount, risk_factor from insurance ";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Insurance> findById(Long id) {
+        return databaseClient.sql(SELECT_INSURANCE + "where id = :id")
+                .bind("id", id)
+                .map(ReactiveInsuranceRepositoryImpl::toInsurance)
+                .one();
+    }
+
+    @Override
+    public Flux<Insurance> findPageAfter(Long afterId, int limit) {
+        return databaseClient.sql(SELECT_INSURANCE + "where id > :afterId order by id limit :limit")
+                .bind("afterId", afterId == null ? 0L : afterId)
+                .bind("limit", limit)
+                .map(ReactiveInsuranceRepositoryImpl::toInsurance)
+                .all();
+    }
+
+    @Override
+    public Mono<Insurance> findByPolicyNumber(String policyNumber) {
+        return databaseClient.sql(SELECT_INSURANCE + "where policy_number = :policyNumber")
+                .bind("policyNumber", policyNumber)
+                .map(ReactiveInsuranceRepositoryImpl::toInsurance)
+                .one();
+    }
+
+    @Override
+    public Flux<MonthlyPremium> findMonthsWithClaims() {
+        return databaseClient.sql("select claim_month, total_premium, claim_count from premium_by_month "
+                        + "where claim_count > 0 order by claim_month")
+                .map(row -> new MonthlyPremium(row.get("claim_month", Integer.class),
+                        row.get("total_premium", Double.class), row.get("claim_count", Long.class)))
+                .all();
+    }
+
+    private static Insurance toInsurance(Readable row) {
+        return Insurance.builder()
+                .id(row.get("id", Long.class))
+                .version(row.get("version", Long.class))
+                .policyNumber(row.get("policy_number", String.class))
+                .holderName(row.get("holder_name", String.class))
+                .startDate(row.get("start_date", LocalDate.class))
+                .endDate(row.get("end_date", LocalDate.class))
+                .claimDate(row.get("claim_date", LocalDate.class))
+                .insuredAmount(row.get("insured_amount", Double.class))
+                .riskFactor(row.get("risk_factor", Double.class))
+                .build();
+    }
+}
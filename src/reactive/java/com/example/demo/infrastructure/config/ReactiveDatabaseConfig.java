@@ -0,0 +1,48 @@
+package com.example.demo.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Cria o pool R2DBC do stack reativo. O pool não é registrado como bean {@code ConnectionFactory}: com um no
+ * contexto o Spring Boot deixa de configurar o DataSource JDBC, do qual o JPA e as escritas continuam dependendo.
+ * Pelo mesmo motivo o {@code R2dbcAutoConfiguration} fica excluído em {@code application-reactive.properties}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveDatabaseConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${app.reactive.r2dbc-url}") String url,
+                                                 @Value("${spring.datasource.username:sa}") String username,
+                                                 @Value("${spring.datasource.password:}") String password,
+                                                 @Value("${app.reactive.pool-size:10}") int poolSize) {
+        // Mesmas credenciais do DataSource JDBC: os dois acessos abrem o mesmo banco.
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(poolSize)
+                .maxSize(poolSize)
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
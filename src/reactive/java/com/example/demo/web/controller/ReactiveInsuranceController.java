@@ -0,0 +1,93 @@
+package com.example.demo.web.controller;
+
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.application.ports.ReactiveInsuranceServicePort;
+import com.example.demo.domain.model.Insurance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * Endpoints do stack reativo (profile {@code reactive}). As leituras usam o adaptador R2DBC e não bloqueiam o
+ * event loop; as escritas reaproveitam o serviço JPA em {@link Schedulers#boundedElastic()}.
+ * Bulk, importação, exportação e as agregações por campo/modo existem apenas no {@link InsuranceController}.
+ */
+@RestController
+@RequestMapping("/api/insurance")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInsuranceController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ReactiveInsuranceServicePort service;
+
+    private final InsuranceServicePort blockingService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Insurance>> createInsurance(@RequestBody Insurance insurance) {
+        return Mono.fromCallable(() -> ResponseEntity.status(201).body(blockingService.createInsurance(insurance)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(DataIntegrityViolationException.class, e -> Mono.just(ResponseEntity.status(409).build()));
+    }
+
+    @GetMapping
+    public Flux<Insurance> getAllInsurances(@RequestParam(required = false) Long after,
+                                            @RequestParam(defaultValue = "100") int limit) {
+        return service.getInsurancesPage(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Insurance>> getInsurance(@PathVariable Long id) {
+        return service.getInsuranceById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/by-policy-number/{policyNumber}")
+    public Mono<ResponseEntity<Insurance>> getInsuranceByPolicyNumber(@PathVariable String policyNumber) {
+        return service.getInsuranceByPolicyNumber(policyNumber)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Insurance>> updateInsurance(@PathVariable Long id, @RequestBody Insurance updatedInsurance) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(blockingService.updateInsurance(id, updatedInsurance)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> e instanceof OptimisticLockingFailureException || e instanceof DataIntegrityViolationException,
+                        e -> Mono.just(ResponseEntity.status(409).build()))
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteInsurance(@PathVariable Long id) {
+        return Mono.fromRunnable(() -> blockingService.deleteInsurance(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()))
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/premium/{id}")
+    public Mono<ResponseEntity<Double>> calculatePremium(@PathVariable Long id) {
+        return service.calculatePremium(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/total-premium-by-month")
+    public Mono<ResponseEntity<Map<Integer, Double>>> calculateTotalPremiumByMonth() {
+        return service.calculateTotalPremiumByMonth()
+                .map(premiums -> premiums.isEmpty()
+                        ? ResponseEntity.status(204).<Map<Integer, Double>>build()
+                        : ResponseEntity.ok(premiums));
+    }
+}
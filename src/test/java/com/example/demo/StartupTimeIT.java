@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede o tempo até a primeira requisição respondida com o jar comum e com o jar extraído usando AOT e CDS.
+ * Roda apenas no profile Maven {@code fast-startup}, que gera os artefatos e informa os caminhos.
+ */
+@EnabledIfSystemProperty(named = "startup.jar", matches = ".+")
+class StartupTimeIT {
+
+    private static final int RUNS = 3;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    void shouldServeFirstRequestSoonerWithAotAndCds() throws Exception {
+        // Given
+        Path jar = Path.of(System.getProperty("startup.jar"));
+        Path optimizedJar = Path.of(System.getProperty("startup.optimized-jar"));
+        String cdsArchive = System.getProperty("startup.cds-archive");
+
+        // When
+        long baseline = medianTimeToFirstRequest(jar, List.of());
+        long optimized = medianTimeToFirstRequest(optimizedJar,
+                List.of("-XX:SharedArchiveFile=" + cdsArchive, "-Dspring.aot.enabled=true"));
+
+        // Then
+        assertTrue(optimized < baseline, "AOT + CDS took " + optimized + " ms, plain jar " + baseline + " ms");
+    }
+
+    private long medianTimeToFirstRequest(Path jar, List<String> jvmArguments) throws Exception {
+        List<Long> samples = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            samples.add(timeToFirstRequest(jar, jvmArguments));
+        }
+        samples.sort(null);
+        return samples.get(RUNS / 2);
+    }
+
+    private long timeToFirstRequest(Path jar, List<String> jvmArguments) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.addAll(List.of("-jar", jar.getFileName().toString(), "--server.port=" + port,
+                "--spring.profiles.active=" + System.getProperty("startup.profiles", "")));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/insurance?limit=1"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParent().toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    fail("Application exited with code " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (IOException e) {
+                    // Ainda subindo
+                }
+                Thread.sleep(10);
+            }
+            return fail("Application did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceRowReader;
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.domain.model.ImportReport;
+import com.example.demo.domain.model.Insurance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class InsuranceImportServiceTest {
+
+    @Mock
+    private InsuranceServicePort insuranceService;
+
+    @InjectMocks
+    private InsuranceImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldWriteValidRowsInBatchesAndReportInvalidOnes() throws Exception {
+        // Given
+        List<InsuranceRowReader.Row> rows = new ArrayList<>();
+        for (int i = 0; i < InsuranceImportService.BATCH_SIZE + 1; i++) {
+            rows.add(InsuranceRowReader.Row.parsed(i + 2, newInsurance("P-" + i)));
+        }
+        Insurance invalid = newInsurance("P-X");
+        invalid.setRiskFactor(0.0);
+        rows.add(InsuranceRowReader.Row.parsed(600, invalid));
+        rows.add(InsuranceRowReader.Row.failed(601, "invalid JSON"));
+
+        // When
+        ImportReport report = importService.importInsurances(readerOf(rows));
+
+        // Then
+        assertEquals(503, report.rowsRead());
+        assertEquals(501, report.rowsImported());
+        assertEquals(2, report.rowsRejected());
+        assertEquals(new ImportReport.RowError(600, "riskFactor must be positive"), report.errors().get(0));
+        assertEquals(new ImportReport.RowError(601, "invalid JSON"), report.errors().get(1));
+        verify(insuranceService, times(2)).createInsurances(anyList());
+        verify(insuranceService, never()).createInsurance(any());
+    }
+
+    @Test
+    void shouldFallBackToSingleRowsWhenBatchFails() throws Exception {
+        // Given
+        Insurance duplicate = newInsurance("P-1");
+        Insurance valid = newInsurance("P-2");
+        when(insuranceService.createInsurances(anyList())).thenThrow(new DataIntegrityViolationException("batch"));
+        when(insuranceService.createInsurance(duplicate)).thenThrow(new DataIntegrityViolationException("duplicate policyNumber"));
+        when(insuranceService.createInsurance(valid)).thenReturn(valid);
+
+        // When
+        ImportReport report = importService.importInsurances(readerOf(List.of(
+                InsuranceRowReader.Row.parsed(2, duplicate), InsuranceRowReader.Row.parsed(3, valid))));
+
+        // Then
+        assertEquals(1, report.rowsImported());
+        assertEquals(List.of(new ImportReport.RowError(2, "duplicate policyNumber")), report.errors());
+    }
+
+    private static InsuranceRowReader readerOf(List<InsuranceRowReader.Row> rows) {
+        Iterator<InsuranceRowReader.Row> iterator = rows.iterator();
+        return () -> iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static Insurance newInsurance(String policyNumber) {
+        return Insurance.builder()
+                .policyNumber(policyNumber)
+                .holderName("Maria Souza")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 1))
+                .insuredAmount(50000.0)
+                .riskFactor(1.1)
+                .build();
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.domain.model.IngestionStatus;
+import com.example.demo.domain.model.Insurance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InsuranceIngestionQueueTest {
+
+    private final InsuranceServicePort service = mock(InsuranceServicePort.class);
+    private InsuranceIngestionQueue ingestionQueue;
+
+    @AfterEach
+    void tearDown() {
+        ingestionQueue.stop();
+    }
+
+    @Test
+    void shouldGroupQueuedInsurancesIntoOneCommit() throws InterruptedException {
+        // Given
+        ingestionQueue = newQueue(10, 3, Duration.ofSeconds(5));
+        when(service.createInsurances(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+        ingestionQueue.start();
+
+        // When
+        List<UUID> trackingIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            trackingIds.add(ingestionQueue.submit(newInsurance("P-" + i)).orElseThrow().trackingId());
+        }
+
+        // Then
+        for (int i = 0; i < 3; i++) {
+            IngestionStatus status = awaitCompletion(trackingIds.get(i));
+            assertEquals(IngestionStatus.State.COMPLETED, status.state());
+            assertEquals(100L + i, status.insuranceId());
+        }
+        verify(service, times(1)).createInsurances(argThat(batch -> batch.size() == 3));
+        verify(service, never()).createInsurance(any());
+    }
+
+    @Test
+    void shouldRetryFailedBatchOneByOneAndFailOnlyInvalidInsurances() throws InterruptedException {
+        // Given
+        ingestionQueue = newQueue(10, 2, Duration.ofSeconds(5));
+        when(service.createInsurances(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(service.createInsurance(any(Insurance.class))).thenAnswer(invocation -> {
+            Insurance insurance = invocation.getArgument(0);
+            if (insurance.getPolicyNumber().equals("P-DUP")) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return withIds(List.of(insurance)).get(0);
+        });
+        ingestionQueue.start();
+
+        // When
+        UUID valid = ingestionQueue.submit(newInsurance("P-1")).orElseThrow().trackingId();
+        UUID duplicate = ingestionQueue.submit(newInsurance("P-DUP")).orElseThrow().trackingId();
+
+        // Then
+        assertEquals(IngestionStatus.State.COMPLETED, awaitCompletion(valid).state());
+        IngestionStatus failed = awaitCompletion(duplicate);
+        assertEquals(IngestionStatus.State.FAILED, failed.state());
+        assertEquals("Data integrity violation", failed.error());
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFullOrStopped() throws InterruptedException {
+        // Given
+        ingestionQueue = newQueue(1, 1, Duration.ZERO);
+        assertTrue(ingestionQueue.submit(newInsurance("P-0")).isEmpty());
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(service.createInsurances(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return withIds(invocation.getArgument(0));
+        });
+        ingestionQueue.start();
+
+        // When
+        ingestionQueue.submit(newInsurance("P-1")).orElseThrow();
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        Optional<IngestionStatus> queued = ingestionQueue.submit(newInsurance("P-2"));
+        Optional<IngestionStatus> rejected = ingestionQueue.submit(newInsurance("P-3"));
+        release.countDown();
+
+        // Then
+        assertTrue(queued.isPresent());
+        assertTrue(rejected.isEmpty());
+        assertEquals(IngestionStatus.State.COMPLETED, awaitCompletion(queued.get().trackingId()).state());
+    }
+
+    @Test
+    void shouldWriteQueuedInsurancesOnStop() {
+        // Given
+        ingestionQueue = newQueue(10, 500, Duration.ofSeconds(30));
+        when(service.createInsurances(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+        ingestionQueue.start();
+        UUID trackingId = ingestionQueue.submit(newInsurance("P-1")).orElseThrow().trackingId();
+
+        // When
+        ingestionQueue.stop();
+
+        // Then
+        assertEquals(IngestionStatus.State.COMPLETED, ingestionQueue.getStatus(trackingId).orElseThrow().state());
+    }
+
+    @Test
+    void shouldBoundRetainedStatuses() throws InterruptedException {
+        // Given
+        ingestionQueue = new InsuranceIngestionQueue(service, new SimpleMeterRegistry(), 100, 100, Duration.ZERO,
+                Duration.ofMinutes(5), 5);
+        when(service.createInsurances(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+        ingestionQueue.start();
+
+        // When
+        List<UUID> trackingIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            trackingIds.add(ingestionQueue.submit(newInsurance("P-" + i)).orElseThrow().trackingId());
+        }
+        ingestionQueue.stop();
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long retained = countRetained(trackingIds);
+        // A remoção pelo limite de tamanho é feita em segundo plano pelo Caffeine
+        while (retained > 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            retained = countRetained(trackingIds);
+        }
+        assertTrue(retained <= 5, "retained " + retained);
+    }
+
+    private long countRetained(List<UUID> trackingIds) {
+        return trackingIds.stream().filter(id -> ingestionQueue.getStatus(id).isPresent()).count();
+    }
+
+    private InsuranceIngestionQueue newQueue(int capacity, int batchSize, Duration maxDelay) {
+        return new InsuranceIngestionQueue(service, new SimpleMeterRegistry(), capacity, batchSize, maxDelay,
+                Duration.ofMinutes(5), 1000);
+    }
+
+    private IngestionStatus awaitCompletion(UUID trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        IngestionStatus status = ingestionQueue.getStatus(trackingId).orElseThrow();
+        while (status.state() == IngestionStatus.State.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = ingestionQueue.getStatus(trackingId).orElseThrow();
+        }
+        return status;
+    }
+
+    private static List<Insurance> withIds(List<Insurance> insurances) {
+        for (int i = 0; i < insurances.size(); i++) {
+            insurances.get(i).setId(100L + i);
+        }
+        return insurances;
+    }
+
+    private static Insurance newInsurance(String policyNumber) {
+        return Insurance.builder()
+                .policyNumber(policyNumber)
+                .holderName("Maria Souza")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 1))
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build();
+    }
+}
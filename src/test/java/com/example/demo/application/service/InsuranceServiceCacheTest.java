@@ -0,0 +1,134 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.application.ports.PremiumByMonthRepositoryPort;
+import com.example.demo.domain.model.Insurance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class InsuranceServiceCacheTest {
+
+    @MockitoBean
+    private InsuranceRepositoryPort insuranceRepository;
+
+    @MockitoBean
+    private PremiumByMonthRepositoryPort premiumByMonthRepository;
+
+    @Autowired
+    private InsuranceServicePort insuranceService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Insurance insurance;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        insurance = Insurance.builder()
+                .id(1L)
+                .policyNumber("ABC123")
+                .holderName("Maria Souza")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusYears(1))
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        when(insuranceRepository.findById(1L)).thenReturn(Optional.of(insurance));
+
+        // When
+        insuranceService.getInsuranceById(1L);
+        Optional<Insurance> found = insuranceService.getInsuranceById(1L);
+
+        // Then
+        assertEquals("ABC123", found.orElseThrow().getPolicyNumber());
+        verify(insuranceRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldServeRepeatedPremiumsFromCache() {
+        // Given
+        when(insuranceRepository.findById(1L)).thenReturn(Optional.of(insurance));
+
+        // When
+        insuranceService.calculatePremium(1L);
+        double premium = insuranceService.calculatePremium(1L);
+
+        // Then
+        assertEquals(6000.0, premium, 0.001);
+        verify(insuranceRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldNotCacheMissingInsurance() {
+        // Given
+        when(insuranceRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        insuranceService.getInsuranceById(2L);
+        insuranceService.getInsuranceById(2L);
+
+        // Then
+        verify(insuranceRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void shouldEvictCachedEntriesOnUpdate() {
+        // Given
+        when(insuranceRepository.findById(1L)).thenReturn(Optional.of(insurance));
+        when(insuranceRepository.lockById(1L)).thenReturn(Optional.of(0L));
+        when(insuranceRepository.updateIfVersionMatches(any(Insurance.class))).thenReturn(1);
+        insuranceService.getInsuranceById(1L);
+        insuranceService.calculatePremium(1L);
+
+        // When
+        insuranceService.updateInsurance(1L, insurance);
+        insuranceService.getInsuranceById(1L);
+        insuranceService.calculatePremium(1L);
+
+        // Then
+        assertNotNull(cacheManager.getCache(InsuranceServiceImpl.INSURANCE_CACHE).get(1L));
+        verify(insuranceRepository, times(4)).findById(1L);
+    }
+
+    @Test
+    void shouldEvictOnlyAfterTheWriteCommits() {
+        // Given
+        when(insuranceRepository.findById(1L)).thenReturn(Optional.of(insurance));
+        when(insuranceRepository.lockById(1L)).thenReturn(Optional.of(0L));
+        when(insuranceRepository.updateIfVersionMatches(any(Insurance.class))).thenReturn(1);
+        insuranceService.getInsuranceById(1L);
+
+        // When
+        boolean cachedBeforeCommit = transactionTemplate.execute(status -> {
+            insuranceService.updateInsurance(1L, insurance);
+            return cacheManager.getCache(InsuranceServiceImpl.INSURANCE_CACHE).get(1L) != null;
+        });
+
+        // Then
+        assertTrue(cachedBeforeCommit);
+        assertNull(cacheManager.getCache(InsuranceServiceImpl.INSURANCE_CACHE).get(1L));
+    }
+}
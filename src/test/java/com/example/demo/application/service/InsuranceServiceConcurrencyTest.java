@@ -0,0 +1,127 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.application.ports.PremiumByMonthRepositoryPort;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.MonthlyPremium;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Escritas concorrentes sobre um banco real: uma atualização que chega entre a leitura e a remoção de um lote
+ * não pode deixar o rollup de prêmios divergente da tabela.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:concurrency-test;DB_CLOSE_DELAY=-1")
+class InsuranceServiceConcurrencyTest {
+
+    private static final long CONCURRENT_WRITE_WAIT_MILLIS = 300;
+
+    @MockitoSpyBean
+    private InsuranceRepositoryPort insuranceRepository;
+
+    @Autowired
+    private PremiumByMonthRepositoryPort premiumByMonthRepository;
+
+    @Autowired
+    private InsuranceServicePort insuranceService;
+
+    @Test
+    void shouldKeepRollupConsistentWhenUpdateRacesBulkDelete() throws Exception {
+        // Given
+        Insurance target = insuranceService.createInsurance(newInsurance("RACE-DEL-1"));
+        Insurance changed = newInsurance("RACE-DEL-1");
+        changed.setInsuredAmount(300000.0);
+        CompletableFuture<?>[] concurrentUpdate = new CompletableFuture<?>[1];
+        doAnswer(invocation -> {
+            concurrentUpdate[0] = CompletableFuture.runAsync(() -> insuranceService.updateInsurance(target.getId(), changed));
+            waitForConcurrentWrite(concurrentUpdate[0]);
+            return callRealRepository(invocation);
+        }).when(insuranceRepository).deleteAllByIdInBatch(any());
+
+        // When
+        int deleted = insuranceService.deleteInsurances(List.of(target.getId()));
+
+        // Then
+        assertEquals(1, deleted);
+        Exception updateFailure = assertThrows(Exception.class, () -> concurrentUpdate[0].get(5, TimeUnit.SECONDS));
+        assertEquals("Insurance not found", updateFailure.getCause().getMessage());
+        assertRollupMatchesTable();
+    }
+
+    @Test
+    void shouldArchiveLatestStateWhenUpdateRacesArchiving() throws Exception {
+        // Given
+        Insurance target = insuranceService.createInsurance(newInsurance("RACE-ARC-1"));
+        Insurance changed = newInsurance("RACE-ARC-1");
+        changed.setInsuredAmount(300000.0);
+        CompletableFuture<?>[] concurrentUpdate = new CompletableFuture<?>[1];
+        doAnswer(invocation -> {
+            concurrentUpdate[0] = CompletableFuture.runAsync(() -> insuranceService.updateInsurance(target.getId(), changed));
+            waitForConcurrentWrite(concurrentUpdate[0]);
+            return callRealRepository(invocation);
+        }).when(insuranceRepository).moveToArchive(any());
+
+        // When
+        int archived = insuranceService.archiveInsurancesEndedBefore(LocalDate.of(2022, 1, 1), 100);
+
+        // Then
+        assertEquals(1, archived);
+        Exception updateFailure = assertThrows(Exception.class, () -> concurrentUpdate[0].get(5, TimeUnit.SECONDS));
+        assertEquals("Insurance not found", updateFailure.getCause().getMessage());
+        assertEquals(100000.0, insuranceService.getInsuranceById(target.getId(), true).orElseThrow().getInsuredAmount());
+        assertRollupMatchesTable();
+    }
+
+    /**
+     * O spy de um repositório Spring Data (proxy JDK) delega ao bean original pela resposta padrão; os métodos
+     * abstratos não têm implementação real para {@code callRealMethod}.
+     */
+    private Object callRealRepository(InvocationOnMock invocation) throws Throwable {
+        return mockingDetails(insuranceRepository).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+    }
+
+    static void waitForConcurrentWrite(CompletableFuture<?> write) {
+        try {
+            write.get(CONCURRENT_WRITE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (Exception blockedOrFailed) {
+            // Esperado: a escrita concorrente fica bloqueada na trava da linha
+        }
+    }
+
+    private void assertRollupMatchesTable() {
+        Map<Integer, Double> rollup = premiumByMonthRepository.findMonthsWithClaims().stream()
+                .collect(Collectors.toMap(MonthlyPremium::month, MonthlyPremium::totalPremium));
+        Map<Integer, Double> table = insuranceRepository.sumPremiumByClaimMonth().stream()
+                .collect(Collectors.toMap(MonthlyPremium::month, MonthlyPremium::totalPremium));
+        assertEquals(table.keySet(), rollup.keySet());
+        table.forEach((month, total) -> assertEquals(total, rollup.get(month), 1e-6));
+    }
+
+    private static Insurance newInsurance(String policyNumber) {
+        return Insurance.builder()
+                .policyNumber(policyNumber)
+                .holderName("Maria Souza")
+                .startDate(LocalDate.of(2020, 1, 1))
+                .endDate(LocalDate.of(2021, 1, 1))
+                .claimDate(LocalDate.of(2020, 6, 10))
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class InsuranceServiceMetricsTest {
+
+    @Autowired
+    private InsuranceServicePort insuranceService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldTimeServiceMethodsAndRecordAggregationInputSize() throws Exception {
+        // Given
+        Insurance insurance = Insurance.builder()
+                .startDate(LocalDate.of(2025, 3, 1))
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build();
+
+        // When
+        insuranceService.calculateTotalPremiumByMonth(List.of(insurance, insurance), InsuranceDateField.START_DATE, AggregationMode.SEQUENTIAL);
+        insuranceService.streamAllInsurances(100000, streamed -> { });
+
+        // Then
+        assertEquals(1, meterRegistry.get("insurance.service").tag("method", "calculateTotalPremiumByMonth").timer().count());
+        assertEquals(2.0, meterRegistry.get("insurance.aggregation.input.size").tag("mode", "SEQUENTIAL").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("spring.data.repository.invocations").tag("method", "findByIdGreaterThanOrderByIdAsc").timer().count());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("insurance_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")));
+    }
+}
@@ -1,18 +1,44 @@
 package com.example.demo.application.service;
 
 import com.example.demo.application.service.InsuranceServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.BatchPremiumResult;
+import com.example.demo.domain.model.BookRepricing;
 import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import com.example.demo.domain.model.MonthlyPremium;
+import com.example.demo.domain.model.PortfolioSnapshot;
+import com.example.demo.domain.model.PremiumKernel;
+import com.example.demo.domain.model.PremiumRequest;
+import com.example.demo.domain.model.RatingTable;
+import com.example.demo.domain.model.YearMonthPremiumTotals;
+import com.example.demo.application.ports.ChangeCounterRepositoryPort;
 import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.application.ports.PremiumByMonthRepositoryPort;
+import com.example.demo.application.ports.PremiumKernelFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -21,15 +47,30 @@ class InsuranceServiceTest {
     @Mock
     private InsuranceRepositoryPort insuranceRepository;
 
+    @Mock
+    private PremiumByMonthRepositoryPort premiumByMonthRepository;
+
+    @Mock
+    private ChangeCounterRepositoryPort changeCounterRepository;
+
+    @Mock
+    private PremiumKernelFactory premiumKernelFactory;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private InsuranceServiceImpl insuranceService;
 
     private Insurance insurance;
     private List<Insurance> insuranceList = new ArrayList<>();
+    private final InsuranceProjection projection = new InsuranceProjection(1L, 0L, "ABC123", "Maria Souza",
+            null, null, null, null, null, null);
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(insuranceRepository.lockById(anyLong())).thenReturn(Optional.of(0L));
         insurance = Insurance.builder()
                 .policyNumber("ABC123")
                 .holderName("Maria Souza")
@@ -54,6 +95,7 @@ class InsuranceServiceTest {
         assertNotNull(savedInsurance);
         assertEquals("ABC123", savedInsurance.getPolicyNumber());
         verify(insuranceRepository, times(1)).save(any(Insurance.class));
+        verify(changeCounterRepository).increment(InsuranceServiceImpl.INSURANCE_TABLE);
     }
 
     @Test
@@ -95,6 +137,95 @@ class InsuranceServiceTest {
         assertEquals("Maria Souza", found.get(0).getHolderName());
         assertEquals(1, found.size());
         verify(insuranceRepository, times(1)).findAll();
+        assertEquals(1.0, meterRegistry.get("insurance.repository.rows").tag("operation", "findAll").summary().totalAmount());
+    }
+
+    @Test
+    void shouldFindInsurancesPageAfterCursor() {
+        // Given
+        when(insuranceRepository.findFieldsPageAfter(InsuranceField.DEFAULT, 10L, 50)).thenReturn(List.of(projection));
+
+        // When
+        List<InsuranceProjection> page = insuranceService.getInsurancesPage(InsuranceField.DEFAULT, 10L, 50);
+
+        // Then
+        assertEquals(1, page.size());
+        verify(insuranceRepository, times(1)).findFieldsPageAfter(InsuranceField.DEFAULT, 10L, 50);
+        verify(insuranceRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldFindInsurancesByIndexedLookups() {
+        // Given
+        when(insuranceRepository.findByPolicyNumber("ABC123")).thenReturn(Optional.of(insurance));
+        when(insuranceRepository.findFieldsByHolderNamePrefix(InsuranceField.DEFAULT, "Maria", 10)).thenReturn(List.of(projection));
+        when(insuranceRepository.findFieldsByClaimDateRange(InsuranceField.DEFAULT, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), 10)).thenReturn(List.of());
+
+        // When & Then
+        assertEquals("Maria Souza", insuranceService.getInsuranceByPolicyNumber("ABC123").orElseThrow().getHolderName());
+        assertEquals(1, insuranceService.findInsurancesByHolderNamePrefix(InsuranceField.DEFAULT, "Maria", 10).size());
+        assertTrue(insuranceService.findInsurancesByClaimDateRange(InsuranceField.DEFAULT, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), 10).isEmpty());
+        verify(insuranceRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldStreamAllInsurancesInBatches() {
+        // Given
+        Insurance first = Insurance.builder().id(1L).build();
+        Insurance second = Insurance.builder().id(2L).build();
+        Insurance third = Insurance.builder().id(3L).build();
+        when(insuranceRepository.findPageAfter(null, 2)).thenReturn(List.of(first, second));
+        when(insuranceRepository.findPageAfter(2L, 2)).thenReturn(List.of(third));
+
+        // When
+        List<Insurance> streamed = new ArrayList<>();
+        insuranceService.streamAllInsurances(2, streamed::add);
+
+        // Then
+        assertEquals(List.of(first, second, third), streamed);
+        verify(insuranceRepository, times(2)).findPageAfter(any(), eq(2));
+        verify(insuranceRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldExportRowsAndCloseCursor() {
+        // Given
+        InsuranceExportRow row = new InsuranceExportRow(1L, "P-1", "Maria", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2026, 1, 1), null, 100000.0, 1.2, 6000.0);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(insuranceRepository.streamExportRows()).thenReturn(Stream.of(row).onClose(() -> closed.set(true)));
+
+        // When
+        List<InsuranceExportRow> exported = new ArrayList<>();
+        insuranceService.exportInsurances(exported::add);
+
+        // Then
+        assertEquals(List.of(row), exported);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void shouldCalculatePremiumsWithSingleLookupAndOverrides() {
+        // Given
+        Insurance first = Insurance.builder().id(1L).insuredAmount(100000.0).riskFactor(1.2).build();
+        Insurance second = Insurance.builder().id(2L).insuredAmount(50000.0).riskFactor(1.0).build();
+        when(insuranceRepository.findAllById(List.of(1L, 2L, 99L))).thenReturn(List.of(second, first));
+
+        // When
+        BatchPremiumResult result = insuranceService.calculatePremiums(List.of(
+                new PremiumRequest(1L, null, null),
+                new PremiumRequest(2L, null, 2.0),
+                new PremiumRequest(99L, null, null),
+                new PremiumRequest(1L, 200000.0, null)));
+
+        // Then
+        assertEquals(List.of(
+                new BatchPremiumResult.Quote(1L, 6000.0),
+                new BatchPremiumResult.Quote(2L, 5000.0),
+                new BatchPremiumResult.Quote(1L, 12000.0)), result.premiums());
+        assertEquals(List.of(99L), result.notFound());
+        verify(insuranceRepository, times(1)).findAllById(any());
+        verify(insuranceRepository, never()).findById(any());
     }
 
     @Test
@@ -111,8 +242,8 @@ class InsuranceServiceTest {
                 .riskFactor(1.3)
                 .build();
 
-        when(insuranceRepository.findById(1L)).thenReturn(Optional.of(insurance));
-        when(insuranceRepository.save(any(Insurance.class))).thenReturn(updatedInsurance);
+        when(insuranceRepository.lockById(1L)).thenReturn(Optional.of(3L));
+        when(insuranceRepository.updateIfVersionMatches(updatedInsurance)).thenReturn(1);
 
         // When
         Insurance result = insuranceService.updateInsurance(1L, updatedInsurance);
@@ -121,14 +252,17 @@ class InsuranceServiceTest {
         assertNotNull(result);
         assertEquals("João Atualizado", result.getHolderName());
         assertEquals(120000.0, result.getInsuredAmount());
-        verify(insuranceRepository, times(1)).findById(1L);
-        verify(insuranceRepository, times(1)).save(any(Insurance.class));
+        // Sem versão no corpo, a resposta traz a versão incrementada da linha travada
+        assertEquals(4L, result.getVersion());
+        verify(insuranceRepository, times(1)).updateIfVersionMatches(updatedInsurance);
+        verify(insuranceRepository, never()).findById(anyLong());
+        verify(insuranceRepository, never()).save(any(Insurance.class));
     }
 
     @Test
     void shouldThrowExceptionWhenUpdatingNonExistingInsurance() {
         // Given
-        when(insuranceRepository.findById(3L)).thenReturn(Optional.empty());
+        when(insuranceRepository.updateIfVersionMatches(any(Insurance.class))).thenReturn(0);
 
         Insurance updatedInsurance = Insurance.builder()
                 .id(3L)
@@ -141,34 +275,91 @@ class InsuranceServiceTest {
                 .build();
 
         // When & Then
-        assertThrows(RuntimeException.class, () -> insuranceService.updateInsurance(3L, updatedInsurance));
-        verify(insuranceRepository, times(1)).findById(3L);
-        verify(insuranceRepository, never()).save(any(Insurance.class));
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> insuranceService.updateInsurance(3L, updatedInsurance));
+        assertEquals("Insurance not found", exception.getMessage());
+        verify(premiumByMonthRepository, never()).addToMonth(anyInt(), anyDouble(), anyLong());
+    }
+
+    @Test
+    void shouldThrowOptimisticLockingFailureWhenVersionIsStale() {
+        // Given
+        Insurance updatedInsurance = Insurance.builder()
+                .version(2L)
+                .policyNumber("ABC123")
+                .insuredAmount(75000.0)
+                .riskFactor(1.2)
+                .build();
+        when(insuranceRepository.updateIfVersionMatches(updatedInsurance)).thenReturn(0);
+        when(insuranceRepository.existsById(1L)).thenReturn(true);
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> insuranceService.updateInsurance(1L, updatedInsurance));
     }
 
     @Test
     void shouldDeleteInsuranceSuccessfully() {
         // Given
-        when(insuranceRepository.findById(1L)).thenReturn(Optional.of(insurance));
-        doNothing().when(insuranceRepository).deleteById(1L);
+        when(insuranceRepository.deleteByIdReturningCount(1L)).thenReturn(1);
 
         // When
         insuranceService.deleteInsurance(1L);
 
         // Then
-        verify(insuranceRepository, times(1)).findById(1L);
-        verify(insuranceRepository, times(1)).deleteById(1L);
+        verify(insuranceRepository, times(1)).deleteByIdReturningCount(1L);
+        verify(insuranceRepository, never()).findById(anyLong());
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistingInsurance() {
         // Given
-        when(insuranceRepository.findById(3L)).thenReturn(Optional.empty());
+        when(insuranceRepository.deleteByIdReturningCount(3L)).thenReturn(0);
 
         // When & Then.
         assertThrows(RuntimeException.class, () -> insuranceService.deleteInsurance(3L));
-        verify(insuranceRepository, times(1)).findById(3L);
-        verify(insuranceRepository, never()).deleteById(anyLong());
+        verify(insuranceRepository, times(1)).deleteByIdReturningCount(3L);
+    }
+
+    @Test
+    void shouldCreateInsurancesInBatchAndApplyRollupOncePerMonth() {
+        // Given
+        Insurance first = Insurance.builder().claimDate(LocalDate.of(2025, 3, 1)).insuredAmount(100000.0).riskFactor(1.2).build();
+        Insurance second = Insurance.builder().claimDate(LocalDate.of(2025, 3, 9)).insuredAmount(100000.0).riskFactor(1.2).build();
+        List<Insurance> insurances = List.of(first, second);
+        when(insuranceRepository.saveAllInBatch(insurances)).thenReturn(insurances);
+
+        // When
+        List<Insurance> result = insuranceService.createInsurances(insurances);
+
+        // Then
+        assertEquals(2, result.size());
+        verify(insuranceRepository, times(1)).saveAllInBatch(insurances);
+        verify(insuranceRepository, never()).save(any(Insurance.class));
+        verify(premiumByMonthRepository, times(1)).addToMonth(3, 12000.0, 2);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBulkUpdatingNonExistingInsurance() {
+        // Given
+        Insurance updatedInsurance = Insurance.builder().id(3L).build();
+        when(insuranceRepository.findAllById(List.of(3L))).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> insuranceService.updateInsurances(List.of(updatedInsurance)));
+        verify(insuranceRepository, never()).saveAllInBatch(any());
+    }
+
+    @Test
+    void shouldDeleteOnlyExistingInsurancesInBatch() {
+        // Given
+        insurance.setId(1L);
+        when(insuranceRepository.findAllByIdForUpdate(List.of(1L, 3L))).thenReturn(List.of(insurance));
+
+        // When
+        int deleted = insuranceService.deleteInsurances(List.of(1L, 3L));
+
+        // Then
+        assertEquals(1, deleted);
+        verify(insuranceRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
     }
 
     @Test
@@ -201,23 +392,250 @@ class InsuranceServiceTest {
     @Test
     void shouldCalculateTotalPremiumByMonth() {
         // Given
-        Insurance insurance1 = new Insurance();
-        insurance1.setClaimDate(LocalDate.of(2025, 3, 15));
-        insurance1.setInsuredAmount(100000.0);
-        insurance1.setRiskFactor(1.2);
-
-        Insurance insurance2 = new Insurance();
-        insurance2.setClaimDate(LocalDate.of(2025, 3, 15));
-        insurance2.setInsuredAmount(100000.0);
-        insurance2.setRiskFactor(1.2);
-
-        List<Insurance> allInsurances = List.of(insurance1, insurance2);
+        when(premiumByMonthRepository.findMonthsWithClaims())
+                .thenReturn(List.of(new MonthlyPremium(3, 12000.0, 2L), new MonthlyPremium(4, 6000.0, 1L)));
 
         // When
-        when(insuranceRepository.findAll()).thenReturn(allInsurances);
         Map<Integer, Double> result = insuranceService.calculateTotalPremiumByMonth();
 
         // Then
         assertEquals(12000.0, result.get(3));
+        assertEquals(6000.0, result.get(4));
+        verify(insuranceRepository, never()).findAll();
+        verify(insuranceRepository, never()).sumPremiumByClaimMonth();
+    }
+
+    @Test
+    void shouldAggregateByStartDateWalkingAllInsurances() {
+        // Given
+        Insurance insurance1 = Insurance.builder().id(1L).startDate(LocalDate.of(2025, 3, 1)).insuredAmount(100000.0).riskFactor(1.2).build();
+        Insurance insurance2 = Insurance.builder().id(2L).startDate(LocalDate.of(2024, 3, 1)).insuredAmount(100000.0).riskFactor(1.2).build();
+        when(insuranceRepository.findPageAfter(isNull(), anyInt())).thenReturn(List.of(insurance1, insurance2));
+
+        // When
+        Map<Integer, Double> byMonth = insuranceService.calculateTotalPremiumByMonth(InsuranceDateField.START_DATE, AggregationMode.SEQUENTIAL);
+        Map<Integer, Double> byMonthInParallel = insuranceService.calculateTotalPremiumByMonth(InsuranceDateField.START_DATE, AggregationMode.PARALLEL);
+        Map<YearMonth, Double> byYearMonth = insuranceService.calculateTotalPremiumByYearMonth(InsuranceDateField.START_DATE);
+
+        // Then
+        assertEquals(Map.of(3, 12000.0), byMonth);
+        assertEquals(byMonth, byMonthInParallel);
+        assertEquals(Map.of(YearMonth.of(2024, 3), 6000.0, YearMonth.of(2025, 3), 6000.0), byYearMonth);
+        verify(premiumByMonthRepository, never()).findMonthsWithClaims();
+    }
+
+    @Test
+    void shouldAggregateFromPortfolioSnapshotWhenLoaded() {
+        // Given
+        PortfolioSnapshotService snapshotService = mock(PortfolioSnapshotService.class);
+        PortfolioSnapshot snapshot = PortfolioSnapshot.builder()
+                .add(Insurance.builder().id(1L).startDate(LocalDate.of(2025, 3, 1)).insuredAmount(100000.0).riskFactor(1.2).build())
+                .add(Insurance.builder().id(2L).startDate(LocalDate.of(2024, 3, 1)).insuredAmount(100000.0).riskFactor(1.2).build())
+                .build();
+        when(snapshotService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        ReflectionTestUtils.setField(insuranceService, "portfolioSnapshotService", snapshotService);
+
+        // When
+        Map<Integer, Double> byMonth = insuranceService.calculateTotalPremiumByMonth(InsuranceDateField.START_DATE, AggregationMode.SEQUENTIAL);
+        Map<YearMonth, Double> byYearMonth = insuranceService.calculateTotalPremiumByYearMonth(InsuranceDateField.START_DATE);
+
+        // Then
+        assertEquals(Map.of(3, 12000.0), byMonth);
+        assertEquals(Map.of(YearMonth.of(2024, 3), 6000.0, YearMonth.of(2025, 3), 6000.0), byYearMonth);
+        verify(insuranceRepository, never()).findPageAfter(any(), anyInt());
+    }
+
+    @Test
+    void shouldVersionSnapshotAggregatesBySnapshotAndClaimMonthsByChangeCounter() {
+        // Given
+        PortfolioSnapshotService snapshotService = mock(PortfolioSnapshotService.class);
+        PortfolioSnapshot loaded = PortfolioSnapshot.builder().build(Instant.parse("2025-06-01T10:00:00Z"));
+        PortfolioSnapshot reloaded = PortfolioSnapshot.builder().build(Instant.parse("2025-06-01T10:01:00Z"));
+        when(snapshotService.getSnapshot()).thenReturn(Optional.of(loaded), Optional.of(reloaded));
+        when(changeCounterRepository.getChangeCount(InsuranceServiceImpl.INSURANCE_TABLE)).thenReturn(42L);
+        ReflectionTestUtils.setField(insuranceService, "portfolioSnapshotService", snapshotService);
+
+        // When
+        String beforeReload = insuranceService.getTotalPremiumByMonthVersion(InsuranceDateField.START_DATE);
+        String afterReload = insuranceService.getTotalPremiumByYearMonthVersion();
+        String byClaimMonth = insuranceService.getTotalPremiumByMonthVersion(InsuranceDateField.CLAIM_DATE);
+
+        // Then
+        assertNotEquals(beforeReload, afterReload);
+        assertNotEquals("42", afterReload);
+        assertEquals("42", byClaimMonth);
+    }
+
+    @Test
+    void shouldVersionAggregatesByChangeCounterWithoutSnapshot() {
+        // Given
+        when(changeCounterRepository.getChangeCount(InsuranceServiceImpl.INSURANCE_TABLE)).thenReturn(7L);
+
+        // When & Then
+        assertEquals("7", insuranceService.getTotalPremiumByMonthVersion(InsuranceDateField.END_DATE));
+        assertEquals("7", insuranceService.getTotalPremiumByYearMonthVersion());
+    }
+
+    @Test
+    void shouldRepriceBookFromExportCursorWithoutLoadingEntities() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(insuranceRepository.streamExportRows()).thenReturn(Stream.of(
+                new InsuranceExportRow(1L, "P-1", "Maria", LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), null, 100000.0, 0.7, 3500.0),
+                new InsuranceExportRow(2L, "P-2", "João", LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), null, 1000.0, 1.2, 60.0)
+        ).onClose(() -> closed.set(true)));
+        RatingTable ratingTable = new RatingTable(0.05, 100.0, List.of(new RatingTable.RiskBand(0.8, 0.9)));
+        when(premiumKernelFactory.create(ratingTable)).thenReturn(PremiumKernel.scalar(ratingTable));
+
+        // When
+        BookRepricing repricing = insuranceService.repriceBook(ratingTable);
+
+        // Then
+        assertEquals(2, repricing.policies());
+        assertEquals(3560.0, repricing.currentTotalPremium(), 1e-9);
+        assertEquals(3150.0 + 100.0, repricing.repricedTotalPremium(), 1e-9);
+        assertTrue(closed.get());
+        verify(insuranceRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldArchiveExpiredInsurancesAndRemoveThemFromPremiumRollup() {
+        // Given
+        Insurance expired = Insurance.builder().id(7L).endDate(LocalDate.of(2020, 1, 1))
+                .claimDate(LocalDate.of(2019, 3, 10)).insuredAmount(100000.0).riskFactor(1.2).build();
+        when(insuranceRepository.findEndedBefore(LocalDate.of(2024, 1, 1), 100)).thenReturn(List.of(expired));
+
+        // When
+        int archived = insuranceService.archiveInsurancesEndedBefore(LocalDate.of(2024, 1, 1), 100);
+
+        // Then
+        assertEquals(1, archived);
+        verify(insuranceRepository).moveToArchive(List.of(expired));
+        verify(premiumByMonthRepository).addToMonth(3, -6000.0, -1);
+        verify(changeCounterRepository).increment(InsuranceServiceImpl.INSURANCE_TABLE);
+    }
+
+    @Test
+    void shouldDiscardPortfolioSnapshotWhenArchiving() {
+        // Given
+        PortfolioSnapshotService snapshotService = mock(PortfolioSnapshotService.class);
+        ReflectionTestUtils.setField(insuranceService, "portfolioSnapshotService", snapshotService);
+        Insurance expired = Insurance.builder().id(7L).endDate(LocalDate.of(2020, 1, 1))
+                .insuredAmount(100000.0).riskFactor(1.2).build();
+        when(insuranceRepository.findEndedBefore(LocalDate.of(2024, 1, 1), 100)).thenReturn(List.of(expired));
+
+        // When
+        insuranceService.archiveInsurancesEndedBefore(LocalDate.of(2024, 1, 1), 100);
+
+        // Then
+        verify(snapshotService).discard();
+    }
+
+    @Test
+    void shouldAddArchivedPremiumsToTotalsOnlyWhenAsked() {
+        // Given
+        when(premiumByMonthRepository.findMonthsWithClaims())
+                .thenReturn(List.of(new MonthlyPremium(3, 12000.0, 2L), new MonthlyPremium(4, 6000.0, 1L)));
+        YearMonthPremiumTotals archived = new YearMonthPremiumTotals(InsuranceDateField.CLAIM_DATE);
+        archived.add(2019, 3, 6000.0);
+        archived.add(2019, 5, 1000.0);
+        when(insuranceRepository.sumArchivedPremiumByYearMonth(InsuranceDateField.CLAIM_DATE)).thenReturn(archived);
+
+        // When
+        Map<Integer, Double> active = insuranceService.calculateTotalPremiumByMonth(InsuranceDateField.CLAIM_DATE, AggregationMode.SEQUENTIAL, false);
+        Map<Integer, Double> withArchive = insuranceService.calculateTotalPremiumByMonth(InsuranceDateField.CLAIM_DATE, AggregationMode.SEQUENTIAL, true);
+
+        // Then
+        assertEquals(Map.of(3, 12000.0, 4, 6000.0), active);
+        assertEquals(List.of(3, 4, 5), List.copyOf(withArchive.keySet()));
+        assertEquals(Map.of(3, 18000.0, 4, 6000.0, 5, 1000.0), withArchive);
+    }
+
+    @Test
+    void shouldNotTouchRollupWhenNothingToArchive() {
+        // Given
+        when(insuranceRepository.findEndedBefore(any(LocalDate.class), anyInt())).thenReturn(List.of());
+
+        // When
+        int archived = insuranceService.archiveInsurancesEndedBefore(LocalDate.of(2024, 1, 1), 100);
+
+        // Then
+        assertEquals(0, archived);
+        verify(insuranceRepository, never()).moveToArchive(any());
+        verifyNoInteractions(premiumByMonthRepository, changeCounterRepository);
+    }
+
+    @Test
+    void shouldAddClaimedInsuranceToPremiumRollupOnCreate() {
+        // Given
+        insurance.setClaimDate(LocalDate.of(2025, 3, 15));
+        when(insuranceRepository.save(any(Insurance.class))).thenReturn(insurance);
+
+        // When
+        insuranceService.createInsurance(insurance);
+
+        // Then
+        verify(premiumByMonthRepository, times(1)).addToMonth(3, insurance.calculatePremium(), 1);
+    }
+
+    @Test
+    void shouldMoveDeltaBetweenMonthsInPremiumRollupOnUpdate() {
+        // Given
+        Insurance updatedInsurance = Insurance.builder()
+                .claimDate(LocalDate.of(2025, 5, 1))
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build();
+        when(insuranceRepository.updateIfVersionMatches(updatedInsurance)).thenReturn(1);
+
+        // When
+        insuranceService.updateInsurance(1L, updatedInsurance);
+
+        // Then
+        InOrder inOrder = inOrder(insuranceRepository, premiumByMonthRepository);
+        inOrder.verify(insuranceRepository).lockById(1L);
+        inOrder.verify(premiumByMonthRepository).subtractInsurance(1L);
+        inOrder.verify(insuranceRepository).updateIfVersionMatches(updatedInsurance);
+        verify(premiumByMonthRepository, times(1)).addToMonth(5, 6000.0, 1);
+    }
+
+    @Test
+    void shouldNotTouchPremiumRollupWhenUpdatedInsuranceDoesNotExist() {
+        // Given
+        when(insuranceRepository.lockById(4L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> insuranceService.updateInsurance(4L, insurance));
+        verify(premiumByMonthRepository, never()).subtractInsurance(anyLong());
+        verify(insuranceRepository, never()).updateIfVersionMatches(any(Insurance.class));
+    }
+
+    @Test
+    void shouldRemoveDeletedInsuranceFromPremiumRollup() {
+        // Given
+        when(insuranceRepository.deleteByIdReturningCount(1L)).thenReturn(1);
+
+        // When
+        insuranceService.deleteInsurance(1L);
+
+        // Then
+        InOrder inOrder = inOrder(insuranceRepository, premiumByMonthRepository);
+        inOrder.verify(insuranceRepository).lockById(1L);
+        inOrder.verify(premiumByMonthRepository).subtractInsurance(1L);
+        inOrder.verify(insuranceRepository).deleteByIdReturningCount(1L);
+    }
+
+    @Test
+    void shouldRebuildPremiumRollupFromAggregateQuery() {
+        // Given
+        List<MonthlyPremium> totals = List.of(new MonthlyPremium(3, 12000.0, 2L));
+        when(insuranceRepository.sumPremiumByClaimMonth()).thenReturn(totals);
+
+        // When
+        insuranceService.rebuildPremiumByMonthRollup();
+
+        // Then
+        verify(premiumByMonthRepository, times(1)).replaceAll(totals);
+        verify(changeCounterRepository).increment(InsuranceServiceImpl.INSURANCE_TABLE);
     }
 }
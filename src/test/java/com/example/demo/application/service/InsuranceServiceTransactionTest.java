@@ -0,0 +1,67 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.application.ports.InsuranceServicePort;
+import com.example.demo.application.ports.PremiumByMonthRepositoryPort;
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class InsuranceServiceTransactionTest {
+
+    @MockitoBean
+    private InsuranceRepositoryPort insuranceRepository;
+
+    @MockitoBean
+    private PremiumByMonthRepositoryPort premiumByMonthRepository;
+
+    @Autowired
+    private InsuranceServicePort insuranceService;
+
+    @Test
+    void shouldReadSingleInsuranceInReadOnlyTransaction() {
+        // Given
+        List<Boolean> readOnly = new ArrayList<>();
+        when(insuranceRepository.findByPolicyNumber("ABC123")).thenAnswer(invocation -> {
+            readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return Optional.empty();
+        });
+
+        // When
+        insuranceService.getInsuranceByPolicyNumber("ABC123");
+
+        // Then
+        assertEquals(List.of(true), readOnly);
+    }
+
+    @Test
+    void shouldNotHoldTransactionAcrossPagedAggregation() {
+        // Given
+        List<Boolean> active = new ArrayList<>();
+        when(insuranceRepository.findPageAfter(any(), anyInt())).thenAnswer(invocation -> {
+            active.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return List.of(Insurance.builder().id(1L).build());
+        });
+
+        // When
+        insuranceService.calculateTotalPremiumByMonth(InsuranceDateField.START_DATE, AggregationMode.SEQUENTIAL);
+
+        // Then
+        assertEquals(List.of(false), active);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyPremiumTotalsTest {
+
+    @Test
+    void shouldAggregateBySelectedDateField() {
+        // Given
+        Insurance insurance1 = newInsurance(LocalDate.of(2025, 1, 10), LocalDate.of(2025, 3, 15), 100000.0);
+        Insurance insurance2 = newInsurance(LocalDate.of(2025, 1, 20), null, 100000.0);
+
+        // When
+        MonthlyPremiumTotals byStartDate = MonthlyPremiumTotals.of(List.of(insurance1, insurance2), InsuranceDateField.START_DATE);
+        MonthlyPremiumTotals byClaimDate = MonthlyPremiumTotals.of(List.of(insurance1, insurance2), InsuranceDateField.CLAIM_DATE);
+
+        // Then
+        assertEquals(Map.of(1, 12000.0), byStartDate.toMap());
+        assertEquals(2, byStartDate.count(1));
+        assertEquals(Map.of(3, 6000.0), byClaimDate.toMap());
+        assertEquals(1, byClaimDate.count(3));
+    }
+
+    @Test
+    void shouldKeepPrecisionWhenSummingManySmallPremiumsOntoLargeOne() {
+        // Given
+        List<Insurance> insurances = new ArrayList<>();
+        insurances.add(newInsurance(LocalDate.of(2025, 5, 1), null, 1e17));
+        for (int i = 0; i < 1000; i++) {
+            insurances.add(newInsurance(LocalDate.of(2025, 5, 1), null, 20.0));
+        }
+
+        // When
+        MonthlyPremiumTotals totals = MonthlyPremiumTotals.of(insurances, InsuranceDateField.START_DATE);
+
+        // Then
+        assertEquals(1e17 * 1.2 * 0.05 + 1000 * 1.2, totals.total(5), 0.0);
+    }
+
+    @Test
+    void shouldMergeTotals() {
+        // Given
+        MonthlyPremiumTotals left = MonthlyPremiumTotals.of(
+                List.of(newInsurance(LocalDate.of(2025, 2, 1), null, 100000.0)), InsuranceDateField.START_DATE);
+        MonthlyPremiumTotals right = MonthlyPremiumTotals.of(
+                List.of(newInsurance(LocalDate.of(2024, 2, 1), null, 100000.0)), InsuranceDateField.START_DATE);
+
+        // When
+        left.merge(right);
+
+        // Then
+        assertEquals(12000.0, left.total(2), 0.001);
+        assertEquals(2, left.count(2));
+        assertTrue(new MonthlyPremiumTotals(InsuranceDateField.START_DATE).isEmpty());
+    }
+
+    @Test
+    void shouldProduceSameResultForAnyParallelism() {
+        // Given
+        SplittableRandom random = new SplittableRandom(7);
+        List<Insurance> insurances = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            insurances.add(newInsurance(LocalDate.of(2025, 1 + random.nextInt(12), 1), null, random.nextDouble() * 1e6));
+        }
+
+        // When
+        Map<Integer, Double> sequential = MonthlyPremiumTotals.of(insurances, InsuranceDateField.START_DATE).toMap();
+        List<Map<Integer, Double>> parallel = new ArrayList<>();
+        for (int threads : new int[]{1, 2, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                parallel.add(MonthlyPremiumTotals.ofParallel(insurances, InsuranceDateField.START_DATE, pool).toMap());
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // Then
+        assertEquals(parallel.get(0), parallel.get(1));
+        assertEquals(parallel.get(0), parallel.get(2));
+        for (int month = 1; month <= 12; month++) {
+            assertEquals(sequential.get(month), parallel.get(0).get(month), 1e-6);
+        }
+    }
+
+    static Insurance newInsurance(LocalDate startDate, LocalDate claimDate, double insuredAmount) {
+        return Insurance.builder()
+                .startDate(startDate)
+                .endDate(startDate.plusYears(1))
+                .claimDate(claimDate)
+                .insuredAmount(insuredAmount)
+                .riskFactor(1.2)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.example.demo.domain.model.MonthlyPremiumTotalsTest.newInsurance;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortfolioSnapshotTest {
+
+    @Test
+    void shouldAggregateLikeEntityTotals() {
+        // Given
+        SplittableRandom random = new SplittableRandom(42);
+        List<Insurance> insurances = new ArrayList<>();
+        PortfolioSnapshot.Builder builder = PortfolioSnapshot.builder();
+        for (int i = 0; i < 5000; i++) {
+            LocalDate startDate = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000));
+            LocalDate claimDate = random.nextBoolean() ? startDate.plusDays(random.nextInt(300)) : null;
+            Insurance insurance = newInsurance(startDate, claimDate, random.nextDouble(1000.0, 500000.0));
+            insurance.setId((long) i + 1);
+            insurance.setHolderName("Holder " + (i % 37));
+            insurances.add(insurance);
+            builder.add(insurance);
+        }
+
+        // When
+        PortfolioSnapshot snapshot = builder.build();
+
+        // Then
+        assertEquals(5000, snapshot.size());
+        for (InsuranceDateField dateField : InsuranceDateField.values()) {
+            assertEquals(MonthlyPremiumTotals.of(insurances, dateField).toMap(), snapshot.totalPremiumByMonth(dateField).toMap());
+            assertEquals(YearMonthPremiumTotals.of(insurances, dateField).toMap(), snapshot.totalPremiumByYearMonth(dateField).toMap());
+        }
+    }
+
+    @Test
+    void shouldDictionaryEncodeHolderNamesAndReportFootprint() {
+        // Given
+        PortfolioSnapshot.Builder builder = PortfolioSnapshot.builder();
+        for (int i = 0; i < 3; i++) {
+            builder.add(new InsuranceExportRow((long) i + 1, "P-" + i, i == 2 ? "João" : "Maria", LocalDate.of(2025, 1, 1),
+                    LocalDate.of(2026, 1, 1), null, 100000.0, 1.2, 6000.0));
+        }
+
+        // When
+        PortfolioSnapshot snapshot = builder.build();
+        PortfolioSnapshot.Footprint footprint = snapshot.footprint();
+
+        // Then
+        assertEquals("Maria", snapshot.holderName(1));
+        assertEquals("João", snapshot.holderName(2));
+        assertEquals(6000.0, snapshot.premium(0), 1e-9);
+        assertEquals(3, footprint.rows());
+        assertEquals(2, footprint.distinctHolderNames());
+        assertEquals(7 * 16 + 3 * 40, footprint.columnBytes());
+        assertTrue(snapshot.totalPremiumByMonth(InsuranceDateField.CLAIM_DATE).isEmpty());
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PremiumKernelTest {
+
+    private static final RatingTable BANDED = new RatingTable(0.06, 250.0, List.of(
+            new RatingTable.RiskBand(0.8, 0.9),
+            new RatingTable.RiskBand(1.2, 1.0),
+            new RatingTable.RiskBand(1.8, 1.25)));
+
+    @Test
+    void shouldMatchEntityPremiumWithStandardTable() {
+        // Given
+        double[] amounts = {100000.0, 50000.0, 1234.56};
+        double[] risks = {1.2, 1.1, 0.7};
+        double[] premiums = new double[3];
+
+        // When
+        PremiumKernel.scalar(RatingTable.standard()).price(amounts, risks, premiums, 3);
+
+        // Then
+        for (int i = 0; i < 3; i++) {
+            Insurance insurance = Insurance.builder().insuredAmount(amounts[i]).riskFactor(risks[i]).build();
+            assertEquals(insurance.calculatePremium(), premiums[i], 0.0);
+        }
+    }
+
+    @Test
+    void shouldApplyRiskBandsAndMinimumPremium() {
+        // Given
+        double[] amounts = {100000.0, 100000.0, 100000.0, 100000.0, 1000.0};
+        double[] risks = {0.8, 1.0, 1.5, 2.0, 1.0};
+        double[] premiums = new double[5];
+
+        // When
+        PremiumKernel.scalar(BANDED).price(amounts, risks, premiums, 5);
+
+        // Then
+        assertArrayEquals(new double[]{100000.0 * 0.8 * 0.06 * 0.9, 100000.0 * 1.0 * 0.06, 100000.0 * 1.5 * 0.06 * 1.25,
+                100000.0 * 2.0 * 0.06, 250.0}, premiums, 0.0);
+    }
+
+    @Test
+    void shouldRejectInvalidRatingTables() {
+        assertThrows(IllegalArgumentException.class, () -> new RatingTable(0.0, 0.0, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new RatingTable(0.05, -1.0, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new RatingTable(0.05, 0.0, List.of(
+                new RatingTable.RiskBand(1.5, 1.2), new RatingTable.RiskBand(0.8, 0.9))));
+    }
+}
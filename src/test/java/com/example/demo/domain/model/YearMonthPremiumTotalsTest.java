@@ -0,0 +1,52 @@
+package com.example.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.domain.model.MonthlyPremiumTotalsTest.newInsurance;
+import static org.junit.jupiter.api.Assertions.*;
+
+class YearMonthPremiumTotalsTest {
+
+    @Test
+    void shouldSeparateSameMonthOfDifferentYears() {
+        // Given
+        List<Insurance> insurances = List.of(
+                newInsurance(LocalDate.of(2025, 3, 1), null, 100000.0),
+                newInsurance(LocalDate.of(2023, 3, 1), null, 100000.0),
+                newInsurance(LocalDate.of(2025, 3, 20), null, 100000.0),
+                newInsurance(LocalDate.of(2030, 12, 1), null, 100000.0));
+
+        // When
+        YearMonthPremiumTotals totals = YearMonthPremiumTotals.of(insurances, InsuranceDateField.START_DATE);
+
+        // Then
+        assertEquals(Map.of(
+                YearMonth.of(2023, 3), 6000.0,
+                YearMonth.of(2025, 3), 12000.0,
+                YearMonth.of(2030, 12), 6000.0), totals.toMap());
+        assertEquals(List.of(YearMonth.of(2023, 3), YearMonth.of(2025, 3), YearMonth.of(2030, 12)),
+                List.copyOf(totals.toMap().keySet()));
+        assertEquals(0.0, totals.total(YearMonth.of(2020, 1)));
+    }
+
+    @Test
+    void shouldMergeTotalsWithDifferentRanges() {
+        // Given
+        YearMonthPremiumTotals left = YearMonthPremiumTotals.of(
+                List.of(newInsurance(LocalDate.of(2025, 1, 1), null, 100000.0)), InsuranceDateField.START_DATE);
+        YearMonthPremiumTotals right = YearMonthPremiumTotals.of(
+                List.of(newInsurance(LocalDate.of(2020, 6, 1), null, 100000.0),
+                        newInsurance(LocalDate.of(2025, 1, 1), null, 100000.0)), InsuranceDateField.START_DATE);
+
+        // When
+        left.merge(right);
+
+        // Then
+        assertEquals(Map.of(YearMonth.of(2020, 6), 6000.0, YearMonth.of(2025, 1), 12000.0), left.toMap());
+    }
+}
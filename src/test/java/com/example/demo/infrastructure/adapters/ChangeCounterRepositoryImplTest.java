@@ -0,0 +1,37 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.application.ports.ChangeCounterRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ChangeCounterRepositoryImplTest {
+
+    @Autowired
+    private ChangeCounterRepositoryPort repository;
+
+    @Test
+    void shouldCountEachChangeOnSeededCounter() {
+        // Given
+        assertEquals(0L, repository.getChangeCount("insurance"));
+
+        // When
+        repository.increment("insurance");
+        repository.increment("insurance");
+        repository.increment("insurance");
+
+        // Then
+        assertEquals(3L, repository.getChangeCount("insurance"));
+        assertEquals(0L, repository.getChangeCount("other"));
+    }
+
+    @Test
+    void shouldRejectIncrementOfUnknownCounter() {
+        // When & Then
+        assertThrows(IncorrectUpdateSemanticsDataAccessException.class, () -> repository.increment("other"));
+    }
+}
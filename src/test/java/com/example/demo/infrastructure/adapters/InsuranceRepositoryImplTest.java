@@ -0,0 +1,248 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import com.example.demo.domain.model.InsuranceExportRow;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import com.example.demo.domain.model.MonthlyPremium;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class InsuranceRepositoryImplTest {
+
+    @Autowired
+    private InsuranceRepositoryPort repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.save(newInsurance("P-1", LocalDate.of(2025, 3, 15)));
+        repository.save(newInsurance("P-2", LocalDate.of(2025, 3, 20)));
+        repository.save(newInsurance("P-3", LocalDate.of(2024, 4, 1)));
+        Insurance other = newInsurance("P-4", null);
+        other.setHolderName("João Silva");
+        repository.save(other);
+    }
+
+    @Test
+    void shouldReadPagesAfterCursor() {
+        // When
+        List<Insurance> firstPage = repository.findPageAfter(null, 3);
+        List<Insurance> secondPage = repository.findPageAfter(firstPage.get(2).getId(), 3);
+
+        // Then
+        assertEquals(3, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertEquals("P-4", secondPage.get(0).getPolicyNumber());
+    }
+
+    @Test
+    void shouldSumPremiumByClaimMonth() {
+        // When
+        List<MonthlyPremium> result = repository.sumPremiumByClaimMonth();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(3, result.get(0).month());
+        assertEquals(12000.0, result.get(0).totalPremium(), 0.001);
+        assertEquals(2L, result.get(0).claimCount());
+        assertEquals(4, result.get(1).month());
+        assertEquals(6000.0, result.get(1).totalPremium(), 0.001);
+    }
+
+    @Test
+    void shouldAssignSequenceIdsWhenSavingInBatch() {
+        // When
+        List<Insurance> saved = repository.saveAllInBatch(List.of(
+                newInsurance("P-5", null), newInsurance("P-6", null)));
+
+        // Then
+        assertNotNull(saved.get(0).getId());
+        assertEquals(saved.get(0).getId() + 1, saved.get(1).getId());
+        assertEquals(2, repository.findAllById(List.of(saved.get(0).getId(), saved.get(1).getId())).size());
+    }
+
+    @Test
+    void shouldUpdateOnlyWhenVersionMatches() {
+        // Given
+        Insurance saved = repository.findPageAfter(null, 1).get(0);
+        Insurance changes = newInsurance("P-1", LocalDate.of(2025, 6, 1));
+        changes.setId(saved.getId());
+        changes.setVersion(saved.getVersion() + 1);
+
+        // When
+        int stale = repository.updateIfVersionMatches(changes);
+        changes.setVersion(saved.getVersion());
+        int updated = repository.updateIfVersionMatches(changes);
+
+        // Then
+        assertEquals(0, stale);
+        assertEquals(1, updated);
+    }
+
+    @Test
+    void shouldReportWhetherDeletedRowExisted() {
+        // Given
+        Long id = repository.findPageAfter(null, 1).get(0).getId();
+
+        // When & Then
+        assertEquals(1, repository.deleteByIdReturningCount(id));
+        assertEquals(0, repository.deleteByIdReturningCount(id));
+    }
+
+    @Test
+    void shouldFindByPolicyNumber() {
+        // When & Then
+        assertEquals("P-3", repository.findByPolicyNumber("P-3").orElseThrow().getPolicyNumber());
+        assertTrue(repository.findByPolicyNumber("P-9").isEmpty());
+    }
+
+    @Test
+    void shouldRejectDuplicatePolicyNumber() {
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> repository.saveAllInBatch(List.of(newInsurance("P-1", null))));
+    }
+
+    @Test
+    void shouldReadOnlySelectedFields() {
+        // When
+        List<InsuranceProjection> page = repository.findFieldsPageAfter(
+                InsuranceField.parse("policyNumber,premium"), null, 2);
+        List<InsuranceProjection> ids = repository.findFieldsPageAfter(InsuranceField.parse("id"), null, 10);
+
+        // Then
+        assertEquals(2, page.size());
+        assertNotNull(page.get(0).id());
+        assertEquals("P-1", page.get(0).policyNumber());
+        assertEquals(6000.0, page.get(0).premium(), 0.001);
+        assertNull(page.get(0).holderName());
+        assertNull(page.get(0).insuredAmount());
+        assertEquals(4, ids.size());
+        assertNotNull(ids.get(0).id());
+        assertNull(ids.get(0).policyNumber());
+    }
+
+    @Test
+    void shouldReadSelectedFieldsByHolderNamePrefixAndClaimDate() {
+        // When
+        List<InsuranceProjection> byName = repository.findFieldsByHolderNamePrefix(
+                InsuranceField.parse("holderName"), "Jo", 10);
+        List<InsuranceProjection> byClaimDate = repository.findFieldsByClaimDateRange(InsuranceField.DEFAULT,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 20), 10);
+
+        // Then
+        assertEquals(1, byName.size());
+        assertEquals("João Silva", byName.get(0).holderName());
+        assertEquals(2, repository.findFieldsByHolderNamePrefix(InsuranceField.DEFAULT, "Maria", 2).size());
+        assertTrue(repository.findFieldsByHolderNamePrefix(InsuranceField.DEFAULT, "J%", 10).isEmpty());
+        assertTrue(repository.findFieldsByHolderNamePrefix(InsuranceField.DEFAULT, "%", 10).isEmpty());
+        assertEquals(List.of("P-1", "P-2"), byClaimDate.stream().map(InsuranceProjection::policyNumber).toList());
+        assertEquals(LocalDate.of(2025, 3, 15), byClaimDate.get(0).claimDate());
+    }
+
+    @Test
+    void shouldStreamExportRowsInIdOrderWithPremium() {
+        // When
+        List<InsuranceExportRow> rows;
+        try (Stream<InsuranceExportRow> stream = repository.streamExportRows()) {
+            rows = stream.toList();
+        }
+
+        // Then
+        assertEquals(List.of("P-1", "P-2", "P-3", "P-4"), rows.stream().map(InsuranceExportRow::policyNumber).toList());
+        assertEquals(6000.0, rows.get(0).premium(), 0.001);
+        assertNull(rows.get(3).claimDate());
+    }
+
+    @Test
+    void shouldLockExistingInsuranceOnly() {
+        // Given
+        Insurance insurance = repository.findByPolicyNumber("P-1").orElseThrow();
+
+        // When & Then
+        assertEquals(Optional.of(insurance.getVersion()), repository.lockById(insurance.getId()));
+        assertTrue(repository.lockById(-1L).isEmpty());
+    }
+
+    @Test
+    void shouldMoveExpiredInsurancesToArchiveAndReadThemOnlyWhenAsked() {
+        // Given
+        Insurance expired = newInsurance("P-OLD", null);
+        expired.setEndDate(LocalDate.of(2020, 1, 1));
+        Long expiredId = repository.save(expired).getId();
+        List<Insurance> toArchive = repository.findEndedBefore(LocalDate.of(2021, 1, 1), 10);
+
+        // When
+        repository.moveToArchive(toArchive);
+
+        // Then
+        assertEquals(List.of(expiredId), toArchive.stream().map(Insurance::getId).toList());
+        assertTrue(repository.findById(expiredId, false).isEmpty());
+        assertEquals("P-OLD", repository.findById(expiredId, true).orElseThrow().getPolicyNumber());
+        assertTrue(repository.findByPolicyNumber("P-OLD", false).isEmpty());
+        assertEquals(expiredId, repository.findByPolicyNumber("P-OLD", true).orElseThrow().getId());
+        assertEquals("P-1", repository.findByPolicyNumber("P-1", true).orElseThrow().getPolicyNumber());
+        assertEquals(4, repository.findPageAfter(null, 10).size());
+    }
+
+    @Test
+    void shouldMergeArchivedInsurancesIntoPagesByIdWhenAsked() {
+        // Given
+        List<Insurance> hot = repository.findPageAfter(null, 10);
+        repository.moveToArchive(List.of(hot.get(1)));
+        Set<InsuranceField> fields = InsuranceField.parse("policyNumber");
+
+        // When
+        List<InsuranceProjection> withoutArchive = repository.findFieldsPageAfter(fields, null, 10, false);
+        List<InsuranceProjection> firstPage = repository.findFieldsPageAfter(fields, null, 2, true);
+        List<InsuranceProjection> secondPage = repository.findFieldsPageAfter(fields, firstPage.get(1).id(), 2, true);
+
+        // Then
+        assertEquals(List.of("P-1", "P-3", "P-4"), withoutArchive.stream().map(InsuranceProjection::policyNumber).toList());
+        assertEquals(List.of("P-1", "P-2"), firstPage.stream().map(InsuranceProjection::policyNumber).toList());
+        assertEquals(List.of("P-3", "P-4"), secondPage.stream().map(InsuranceProjection::policyNumber).toList());
+    }
+
+    @Test
+    void shouldSumArchivedPremiumByYearMonthOfDateField() {
+        // Given
+        List<Insurance> hot = repository.findPageAfter(null, 10);
+        repository.moveToArchive(List.of(hot.get(0), hot.get(2), hot.get(3)));
+
+        // When
+        Map<YearMonth, Double> byClaimMonth = repository.sumArchivedPremiumByYearMonth(InsuranceDateField.CLAIM_DATE).toMap();
+        Map<YearMonth, Double> byStartMonth = repository.sumArchivedPremiumByYearMonth(InsuranceDateField.START_DATE).toMap();
+
+        // Then
+        assertEquals(Map.of(YearMonth.of(2025, 3), 6000.0, YearMonth.of(2024, 4), 6000.0), byClaimMonth);
+        assertEquals(Map.of(YearMonth.of(2025, 1), 18000.0), byStartMonth);
+    }
+
+    private static Insurance newInsurance(String policyNumber, LocalDate claimDate) {
+        return Insurance.builder()
+                .policyNumber(policyNumber)
+                .holderName("Maria Souza")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 1))
+                .claimDate(claimDate)
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build();
+    }
+}
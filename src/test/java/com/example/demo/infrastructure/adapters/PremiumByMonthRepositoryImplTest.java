@@ -0,0 +1,82 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.application.ports.InsuranceRepositoryPort;
+import com.example.demo.application.ports.PremiumByMonthRepositoryPort;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.MonthlyPremium;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class PremiumByMonthRepositoryImplTest {
+
+    @Autowired
+    private PremiumByMonthRepositoryPort repository;
+
+    @Autowired
+    private InsuranceRepositoryPort insuranceRepository;
+
+    @Test
+    void shouldReplaceAllAndApplyDeltas() {
+        // Given
+        repository.replaceAll(List.of(new MonthlyPremium(3, 12000.0, 2L)));
+
+        // When
+        repository.addToMonth(3, -6000.0, -1);
+        repository.addToMonth(7, 500.0, 1);
+        List<MonthlyPremium> result = repository.findMonthsWithClaims();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(new MonthlyPremium(3, 6000.0, 1L), result.get(0));
+        assertEquals(new MonthlyPremium(7, 500.0, 1L), result.get(1));
+    }
+
+    @Test
+    void shouldSubtractCurrentPremiumOfInsurance() {
+        // Given
+        Insurance insurance = insuranceRepository.save(Insurance.builder()
+                .policyNumber("P-1")
+                .holderName("Maria Souza")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 1))
+                .claimDate(LocalDate.of(2025, 3, 15))
+                .insuredAmount(100000.0)
+                .riskFactor(1.2)
+                .build());
+        repository.replaceAll(List.of(new MonthlyPremium(3, 12000.0, 2L)));
+
+        // When
+        repository.subtractInsurance(insurance.getId());
+
+        // Then
+        assertEquals(List.of(new MonthlyPremium(3, 6000.0, 1L)), repository.findMonthsWithClaims());
+    }
+
+    @Test
+    void shouldStartWithAllTwelveMonthsSeeded() {
+        // When
+        repository.addToMonth(12, 500.0, 1);
+
+        // Then
+        assertEquals(List.of(new MonthlyPremium(12, 500.0, 1L)), repository.findMonthsWithClaims());
+    }
+
+    @Test
+    void shouldHideMonthsWithoutClaims() {
+        // Given
+        repository.replaceAll(List.of(new MonthlyPremium(3, 6000.0, 1L)));
+
+        // When
+        repository.addToMonth(3, -6000.0, -1);
+
+        // Then
+        assertTrue(repository.findMonthsWithClaims().isEmpty());
+    }
+}
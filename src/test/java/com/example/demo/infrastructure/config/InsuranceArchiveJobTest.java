@@ -0,0 +1,33 @@
+package com.example.demo.infrastructure.config;
+
+import com.example.demo.application.ports.InsuranceServicePort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InsuranceArchiveJobTest {
+
+    @Test
+    void shouldArchiveInBatchesUntilNothingIsLeft() {
+        // Given
+        InsuranceServicePort service = mock(InsuranceServicePort.class);
+        LocalDate endedBefore = LocalDate.of(2024, 6, 30);
+        when(service.archiveInsurancesEndedBefore(endedBefore, 2)).thenReturn(2, 2, 1);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-30T12:00:00Z"), ZoneOffset.UTC);
+        InsuranceArchiveJob job = new InsuranceArchiveJob(service, Period.ofYears(1), 2, clock);
+
+        // When
+        long archived = job.archiveExpiredInsurances();
+
+        // Then
+        assertEquals(5, archived);
+        verify(service, times(3)).archiveInsurancesEndedBefore(endedBefore, 2);
+    }
+}
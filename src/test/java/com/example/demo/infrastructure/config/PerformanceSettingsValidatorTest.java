@@ -0,0 +1,82 @@
+package com.example.demo.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceSettingsValidatorTest {
+
+    @Test
+    void shouldAcceptTunedSettings() {
+        // Given
+        MockEnvironment environment = tunedEnvironment();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(8);
+        dataSource.setMinimumIdle(8);
+        dataSource.setConnectionTimeout(2000);
+
+        // When
+        List<String> warnings = new PerformanceSettingsValidator(environment, provider(dataSource)).validate(4);
+
+        // Then
+        assertEquals(List.of(), warnings);
+    }
+
+    @Test
+    void shouldWarnAboutMisconfiguration() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setMinimumIdle(1);
+
+        // When
+        List<String> warnings = new PerformanceSettingsValidator(environment, provider(dataSource)).validate(4);
+
+        // Then
+        assertEquals(8, warnings.size());
+        assertTrue(warnings.get(0).startsWith("hibernate.jdbc.batch_size"));
+        assertTrue(warnings.stream().anyMatch(warning -> warning.startsWith("maximum-pool-size 2 is below")));
+        assertTrue(warnings.stream().anyMatch(warning -> warning.startsWith("connection-timeout 30000ms")));
+    }
+
+    @Test
+    void shouldSizePoolByProcessorCountUnlessSetExplicitly() {
+        // Given
+        MockEnvironment environment = new MockEnvironment().withProperty("app.datasource.pool-size-per-cpu", "2");
+        HikariDataSource sized = new HikariDataSource();
+        HikariDataSource explicit = new HikariDataSource();
+        explicit.setMaximumPoolSize(5);
+
+        // When
+        new DataSourcePoolSizing(environment, 3).postProcessAfterInitialization(sized, "dataSource");
+        new DataSourcePoolSizing(environment.withProperty("spring.datasource.hikari.maximum-pool-size", "5"), 3)
+                .postProcessAfterInitialization(explicit, "dataSource");
+
+        // Then
+        assertEquals(6, sized.getMaximumPoolSize());
+        assertEquals(6, sized.getMinimumIdle());
+        assertEquals(5, explicit.getMaximumPoolSize());
+        assertEquals(5, explicit.getMinimumIdle());
+    }
+
+    private static MockEnvironment tunedEnvironment() {
+        return new MockEnvironment()
+                .withProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50")
+                .withProperty("spring.jpa.properties.hibernate.order_inserts", "true")
+                .withProperty("spring.jpa.properties.hibernate.order_updates", "true")
+                .withProperty("spring.jpa.open-in-view", "false");
+    }
+
+    private static ObjectProvider<DataSource> provider(DataSource dataSource) {
+        return new StaticListableBeanFactory(java.util.Map.of("dataSource", dataSource)).getBeanProvider(DataSource.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("production")
+class ProductionProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void shouldSizeFixedPoolByProcessorsAndExposePoolMetrics() {
+        // Given
+        int expected = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        HikariDataSource hikari = assertInstanceOf(HikariDataSource.class, dataSource);
+
+        // Then
+        assertEquals(expected, hikari.getMaximumPoolSize());
+        assertEquals(expected, hikari.getMinimumIdle());
+        assertEquals(expected, meterRegistry.get("hikaricp.connections.max").tag("pool", "insurance-pool").gauge().value());
+    }
+
+    @Test
+    void shouldTunePreparedStatementCacheWithoutReplacingDatasourceUrl() throws Exception {
+        // Given
+        HikariDataSource hikari = assertInstanceOf(HikariDataSource.class, dataSource);
+
+        // When
+        String queryCacheSize;
+        try (Connection connection = dataSource.getConnection();
+             ResultSet settings = connection.createStatement().executeQuery(
+                     "select SETTING_VALUE from INFORMATION_SCHEMA.SETTINGS where SETTING_NAME = 'QUERY_CACHE_SIZE'")) {
+            settings.next();
+            queryCacheSize = settings.getString(1);
+        }
+
+        // Then
+        assertFalse(hikari.getJdbcUrl().contains("QUERY_CACHE_SIZE"));
+        assertEquals("256", queryCacheSize);
+    }
+
+    @Test
+    void shouldLeavePortfolioSnapshotDisabled() {
+        // Then
+        assertTrue(applicationContext.getBeansOfType(PortfolioSnapshotEndpoint.class).isEmpty());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"production", "snapshot"})
+class SnapshotProfileTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PortfolioSnapshotEndpoint portfolioSnapshotEndpoint;
+
+    @Test
+    void shouldReportPortfolioSnapshotFootprint() {
+        // When
+        PortfolioSnapshotEndpoint.SnapshotReport report = portfolioSnapshotEndpoint.refresh();
+
+        // Then
+        assertTrue(report.loaded());
+        // O agendamento pode recarregar o snapshot em paralelo; o conteúdo é o mesmo
+        assertEquals(report.rows(), portfolioSnapshotEndpoint.report().rows());
+        assertEquals(report.totalBytes(), meterRegistry.get("insurance.snapshot.memory").gauge().value());
+    }
+}
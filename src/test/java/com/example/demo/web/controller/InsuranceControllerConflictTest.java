@@ -0,0 +1,66 @@
+package com.example.demo.web.controller;
+
+import com.example.demo.application.service.InsuranceImportService;
+import com.example.demo.application.service.InsuranceServiceImpl;
+import com.example.demo.domain.model.Insurance;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(InsuranceController.class)
+class InsuranceControllerConflictTest {
+
+    private static final String INSURANCE_JSON = "{\"policyNumber\": \"ABC123\", \"insuredAmount\": 50000.0, \"riskFactor\": 1.1}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InsuranceServiceImpl service;
+
+    @MockitoBean
+    private InsuranceImportService importService;
+
+    @Test
+    void shouldReturnConflictWhenUpdateDuplicatesPolicyNumber() throws Exception {
+        // Given
+        when(service.updateInsurance(eq(1L), any(Insurance.class)))
+                .thenThrow(new DataIntegrityViolationException("ux_insurance_policy_number"));
+
+        // When / Then
+        mockMvc.perform(put("/api/insurance/1").contentType(MediaType.APPLICATION_JSON).content(INSURANCE_JSON))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldReturnConflictWhenBulkWriteDuplicatesPolicyNumber() throws Exception {
+        // Given
+        when(service.createInsurances(anyList())).thenThrow(new DataIntegrityViolationException("ux_insurance_policy_number"));
+        when(service.updateInsurances(anyList())).thenThrow(new DataIntegrityViolationException("ux_insurance_policy_number"));
+
+        // When / Then
+        mockMvc.perform(post("/api/insurance/bulk").contentType(MediaType.APPLICATION_JSON).content("[" + INSURANCE_JSON + "]"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put("/api/insurance/bulk").contentType(MediaType.APPLICATION_JSON).content("[" + INSURANCE_JSON + "]"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldStillReturnNotFoundForMissingInsuranceOnUpdate() throws Exception {
+        // Given
+        when(service.updateInsurance(eq(99L), any(Insurance.class))).thenThrow(new RuntimeException("Insurance not found"));
+
+        // When / Then
+        mockMvc.perform(put("/api/insurance/99").contentType(MediaType.APPLICATION_JSON).content(INSURANCE_JSON))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demo.web.controller;
+
+import com.example.demo.application.service.InsuranceImportService;
+import com.example.demo.application.service.InsuranceServiceImpl;
+import com.example.demo.domain.model.AggregationMode;
+import com.example.demo.domain.model.Insurance;
+import com.example.demo.domain.model.InsuranceDateField;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(InsuranceController.class)
+class InsuranceControllerETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InsuranceServiceImpl service;
+
+    @MockitoBean
+    private InsuranceImportService importService;
+
+    @Test
+    void shouldReturnVersionAsETagAndNotModifiedWhenItMatches() throws Exception {
+        // Given
+        Insurance insurance = Insurance.builder().id(1L).version(3L).policyNumber("ABC123").build();
+        when(service.getInsuranceById(1L)).thenReturn(Optional.of(insurance));
+
+        // When / Then
+        mockMvc.perform(get("/api/insurance/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        mockMvc.perform(get("/api/insurance/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/insurance/1").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldSkipAggregationWhenTableETagMatches() throws Exception {
+        // Given
+        when(service.getTotalPremiumByMonthVersion(InsuranceDateField.CLAIM_DATE)).thenReturn("42");
+        when(service.calculateTotalPremiumByMonth(InsuranceDateField.CLAIM_DATE, AggregationMode.SEQUENTIAL))
+                .thenReturn(Map.of(3, 6000.0));
+
+        // When / Then
+        mockMvc.perform(get("/api/insurance/total-premium-by-month"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"42\""))
+                .andExpect(jsonPath("$.3").value(6000.0));
+        mockMvc.perform(get("/api/insurance/total-premium-by-month").header(HttpHeaders.IF_NONE_MATCH, "\"42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"42\""))
+                .andExpect(content().string(""));
+        verify(service, times(1)).calculateTotalPremiumByMonth(InsuranceDateField.CLAIM_DATE, AggregationMode.SEQUENTIAL);
+    }
+
+    @Test
+    void shouldChangeMonthlyTotalsETagAfterRollupRebuild() throws Exception {
+        // Given
+        AtomicLong changeCount = new AtomicLong(42);
+        when(service.getTotalPremiumByMonthVersion(InsuranceDateField.CLAIM_DATE))
+                .thenAnswer(invocation -> String.valueOf(changeCount.get()));
+        doAnswer(invocation -> changeCount.incrementAndGet()).when(service).rebuildPremiumByMonthRollup();
+        when(service.calculateTotalPremiumByMonth(InsuranceDateField.CLAIM_DATE, AggregationMode.SEQUENTIAL))
+                .thenReturn(Map.of(3, 6000.0));
+
+        // When
+        mockMvc.perform(post("/api/insurance/total-premium-by-month/rebuild"))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/insurance/total-premium-by-month").header(HttpHeaders.IF_NONE_MATCH, "\"42\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"43\""));
+    }
+
+    @Test
+    void shouldTagSnapshotAggregatesWithTheSnapshotThatServedThem() throws Exception {
+        // Given
+        when(service.getTotalPremiumByYearMonthVersion()).thenReturn("snapshot-1", "snapshot-2");
+        when(service.calculateTotalPremiumByYearMonth(InsuranceDateField.START_DATE))
+                .thenReturn(new TreeMap<>(Map.of(YearMonth.of(2025, 3), 6000.0)));
+
+        // When / Then
+        mockMvc.perform(get("/api/insurance/total-premium-by-year-month").param("dateField", "START_DATE"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"snapshot-1\""));
+        // O snapshot foi recarregado sem nenhuma escrita nova: o ETag antigo não vale mais
+        mockMvc.perform(get("/api/insurance/total-premium-by-year-month").param("dateField", "START_DATE")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"snapshot-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"snapshot-2\""));
+    }
+}
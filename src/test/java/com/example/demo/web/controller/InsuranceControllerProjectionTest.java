@@ -0,0 +1,47 @@
+package com.example.demo.web.controller;
+
+import com.example.demo.application.service.InsuranceImportService;
+import com.example.demo.application.service.InsuranceServiceImpl;
+import com.example.demo.domain.model.InsuranceField;
+import com.example.demo.domain.model.InsuranceProjection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(InsuranceController.class)
+class InsuranceControllerProjectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InsuranceServiceImpl service;
+
+    @MockitoBean
+    private InsuranceImportService importService;
+
+    @Test
+    void shouldRenderOnlySelectedFieldsAndNextCursor() throws Exception {
+        // Given
+        InsuranceProjection first = new InsuranceProjection(1L, null, "P-1", null, null, null, null, null, null, 6000.0);
+        InsuranceProjection second = new InsuranceProjection(2L, null, "P-2", null, null, null, null, null, null, 4000.0);
+        when(service.getInsurancesPage(InsuranceField.parse("premium,policyNumber"), null, 2))
+                .thenReturn(List.of(first, second));
+
+        // When / Then
+        mockMvc.perform(get("/api/insurance").param("fields", "premium,policyNumber").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(InsuranceController.NEXT_CURSOR_HEADER, "2"))
+                .andExpect(content().json("[{\"id\":1,\"policyNumber\":\"P-1\",\"premium\":6000.0},"
+                        + "{\"id\":2,\"policyNumber\":\"P-2\",\"premium\":4000.0}]", true))
+                .andExpect(jsonPath("$[0].holderName").doesNotExist());
+    }
+}
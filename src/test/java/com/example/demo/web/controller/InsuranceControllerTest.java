@@ -110,6 +110,84 @@ class InsuranceControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldReturnNotFoundForUnknownPolicyNumber() throws Exception {
+        mockMvc.perform(get("/api/insurance/by-policy-number/XYZ999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldRejectUnknownProjectionField() throws Exception {
+        mockMvc.perform(get("/api/insurance").param("fields", "policyNumber,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectInvertedClaimDateRange() throws Exception {
+        mockMvc.perform(get("/api/insurance/by-claim-date")
+                        .param("from", "2025-04-01")
+                        .param("to", "2025-03-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReportRejectedRowsOnImport() throws Exception {
+        String csv = """
+                policyNumber,holderName,startDate,endDate,claimDate,insuredAmount,riskFactor
+                IMP-1,Maria Souza,2025-03-15,2024-03-15,,50000.0,1.1
+                IMP-2,João Silva,not-a-date,2026-03-15,,50000.0,1.1
+                """;
+
+        mockMvc.perform(post("/api/insurance/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(2))
+                .andExpect(jsonPath("$.rowsImported").value(0))
+                .andExpect(jsonPath("$.rowsRejected").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("endDate must not be before startDate"))
+                .andExpect(jsonPath("$.errors[1].line").value(3));
+    }
+
+    @Test
+    void shouldReportUnknownIdsInPremiumBatch() throws Exception {
+        mockMvc.perform(post("/api/insurance/premium/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\": 9999}, {\"id\": 9999, \"riskFactor\": 2.0}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.premiums").isEmpty())
+                .andExpect(jsonPath("$.notFound[0]").value(9999));
+    }
+
+    @Test
+    void shouldRejectPremiumBatchWithoutId() throws Exception {
+        mockMvc.perform(post("/api/insurance/premium/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"insuredAmount\": 1000.0}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRepriceBookWithConfiguredOrSimulatedRatingTable() throws Exception {
+        mockMvc.perform(post("/api/insurance/premium/reprice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.kernel").exists());
+        mockMvc.perform(post("/api/insurance/premium/reprice")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseRate\": 0.06, \"minimumPremium\": 100.0, \"bands\": [{\"maxRiskFactor\": 0.8, \"multiplier\": 0.9}]}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectRatingTableWithUnorderedBands() throws Exception {
+        mockMvc.perform(post("/api/insurance/premium/reprice")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseRate\": 0.05, \"bands\": [{\"maxRiskFactor\": 1.5, \"multiplier\": 1.2}, "
+                                + "{\"maxRiskFactor\": 0.8, \"multiplier\": 0.9}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Disabled
     void shouldUpdateInsurance() throws Exception {
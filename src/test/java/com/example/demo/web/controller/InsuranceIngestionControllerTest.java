@@ -0,0 +1,97 @@
+package com.example.demo.web.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.ingestion.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:ingestion-test;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+class InsuranceIngestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldAcceptInsuranceAndReportCompletion() throws Exception {
+        // Given
+        String insuranceJson = """
+        {
+            "policyNumber": "ING-1",
+            "holderName": "Maria Souza",
+            "startDate": "2025-03-15",
+            "endDate": "2026-03-15",
+            "insuredAmount": 50000.0,
+            "riskFactor": 1.1
+        }
+        """;
+
+        // When
+        String accepted = mockMvc.perform(post("/api/insurance/ingestion")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(insuranceJson))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").value("QUEUED"))
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        String trackingId = objectMapper.readTree(accepted).get("trackingId").asText();
+
+        // Then
+        JsonNode status = objectMapper.readTree(accepted);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while ("QUEUED".equals(status.get("state").asText()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            status = objectMapper.readTree(mockMvc.perform(get("/api/insurance/ingestion/{trackingId}", trackingId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+        }
+        assertEquals("COMPLETED", status.get("state").asText());
+        mockMvc.perform(get("/api/insurance/{id}", status.get("insuranceId").asLong()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.policyNumber").value("ING-1"));
+    }
+
+    @Test
+    void shouldRejectInvalidInsuranceWithoutQueueingIt() throws Exception {
+        // Given
+        String insuranceJson = """
+        {
+            "policyNumber": "ING-2",
+            "startDate": "2026-03-15",
+            "endDate": "2025-03-15",
+            "insuredAmount": 50000.0,
+            "riskFactor": 1.1
+        }
+        """;
+
+        // When & Then
+        mockMvc.perform(post("/api/insurance/ingestion")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(insuranceJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("Location"));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownTrackingId() throws Exception {
+        mockMvc.perform(get("/api/insurance/ingestion/{trackingId}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.web.exporter;
+
+import com.example.demo.domain.model.InsuranceExportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarInsuranceExportWriterTest {
+
+    @Test
+    void shouldWriteRowsInColumnarBlocks() throws IOException {
+        // Given
+        int rowCount = ColumnarInsuranceExportWriter.BLOCK_SIZE + 1;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ColumnarInsuranceExportWriter writer = new ColumnarInsuranceExportWriter(bytes);
+
+        // When
+        for (int i = 0; i < rowCount; i++) {
+            LocalDate claimDate = i % 2 == 0 ? LocalDate.of(2025, 3, 15) : null;
+            writer.write(new InsuranceExportRow((long) i, "P-" + i, "Jõao", LocalDate.of(2025, 1, 1),
+                    LocalDate.of(2026, 1, 1), claimDate, 100000.0, 1.2, 6000.0));
+        }
+        writer.finish();
+
+        // Then
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(ColumnarInsuranceExportWriter.MAGIC, input.readInt());
+        assertEquals(ColumnarInsuranceExportWriter.VERSION, input.readInt());
+
+        int blockSize = input.readInt();
+        assertEquals(ColumnarInsuranceExportWriter.BLOCK_SIZE, blockSize);
+        input.skipBytes(blockSize * (8 + 4 + 4 + 4 + 8 + 8 + 8));
+        for (int i = 0; i < blockSize * 2; i++) {
+            input.skipBytes(input.readInt());
+        }
+
+        assertEquals(1, input.readInt());
+        assertEquals(rowCount - 1, input.readLong());
+        assertEquals(LocalDate.of(2025, 1, 1).toEpochDay(), input.readInt());
+        assertEquals(LocalDate.of(2026, 1, 1).toEpochDay(), input.readInt());
+        assertEquals(LocalDate.of(2025, 3, 15).toEpochDay(), input.readInt());
+        assertEquals(100000.0, input.readDouble());
+        assertEquals(1.2, input.readDouble());
+        assertEquals(6000.0, input.readDouble());
+        assertEquals("P-" + (rowCount - 1), readString(input));
+        assertEquals("Jõao", readString(input));
+        assertEquals(0, input.readInt());
+        assertEquals(-1, input.read());
+    }
+
+    @Test
+    void shouldMarkMissingClaimDate() throws IOException {
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ColumnarInsuranceExportWriter writer = new ColumnarInsuranceExportWriter(bytes);
+
+        // When
+        writer.write(new InsuranceExportRow(1L, "P-1", "Maria", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2026, 1, 1), null, 100000.0, 1.2, 6000.0));
+        writer.finish();
+
+        // Then
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        input.skipBytes(4 + 4 + 4 + 8 + 4 + 4);
+        assertEquals(ColumnarInsuranceExportWriter.NULL_DATE, input.readInt());
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] value = new byte[input.readInt()];
+        input.readFully(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.web.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolLimitFilterTest {
+
+    @Test
+    void shouldRejectRequestWhenAllPermitsAreTaken() throws Exception {
+        // Given
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(50));
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/insurance/1"), new MockHttpServletResponse(),
+                        (request, response) -> {
+                            inside.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/insurance/2"), rejected, (request, response) -> fail());
+        release.countDown();
+        holder.join();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/insurance/2"), accepted, (request, response) -> { });
+
+        // Then
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(200, accepted.getStatus());
+    }
+
+    @Test
+    void shouldNotLimitRequestsOutsideApi() throws Exception {
+        // Given
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(0, Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, (req, res) -> { });
+
+        // Then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void shouldNotLimitIngestionRequests() throws Exception {
+        // Given
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(0, Duration.ZERO);
+        MockHttpServletResponse submitted = new MockHttpServletResponse();
+        MockHttpServletResponse status = new MockHttpServletResponse();
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/insurance/ingestion"), submitted, (req, res) -> { });
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/insurance/ingestion/" + UUID.randomUUID()),
+                status, (req, res) -> { });
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/insurance/ingestion-report"), limited, (req, res) -> { });
+
+        // Then
+        assertEquals(200, submitted.getStatus());
+        assertEquals(200, status.getStatus());
+        assertEquals(503, limited.getStatus());
+    }
+
+    @Test
+    void shouldHoldPermitUntilAsyncResponseCompletes() throws Exception {
+        // Given
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(50));
+        MockHttpServletRequest streaming = new MockHttpServletRequest("GET", "/api/insurance/export");
+        streaming.setAsyncSupported(true);
+        filter.doFilter(streaming, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        // When
+        MockHttpServletResponse whileStreaming = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/insurance/1"), whileStreaming, (request, response) -> fail());
+        ((MockAsyncContext) streaming.getAsyncContext()).complete();
+        MockHttpServletResponse afterStreaming = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/insurance/1"), afterStreaming, (request, response) -> { });
+
+        // Then
+        assertEquals(503, whileStreaming.getStatus());
+        assertEquals(200, afterStreaming.getStatus());
+    }
+
+    @Test
+    void shouldLimitApiRequestsUnderContextPath() throws Exception {
+        // Given
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(0, Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/demo/api/insurance/1");
+        request.setContextPath("/demo");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> fail());
+
+        // Then
+        assertEquals(503, response.getStatus());
+    }
+}
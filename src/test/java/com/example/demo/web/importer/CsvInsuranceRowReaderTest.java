@@ -0,0 +1,68 @@
+package com.example.demo.web.importer;
+
+import com.example.demo.application.ports.InsuranceRowReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvInsuranceRowReaderTest {
+
+    @Test
+    void shouldReadRowsByHeaderName() throws Exception {
+        // Given
+        CsvInsuranceRowReader reader = readerOf("""
+                riskFactor,insuredAmount,policyNumber,holderName,startDate,endDate,claimDate
+                1.2,100000,ABC123,"Souza, Maria",2025-03-15,2026-03-15,2025-06-01
+
+                0.8,5000,ABC124,João Silva,2025-03-15,2026-03-15,
+                """);
+
+        // When
+        InsuranceRowReader.Row first = reader.next();
+        InsuranceRowReader.Row second = reader.next();
+
+        // Then
+        assertEquals(2, first.line());
+        assertEquals("Souza, Maria", first.insurance().getHolderName());
+        assertEquals(LocalDate.of(2025, 6, 1), first.insurance().getClaimDate());
+        assertEquals(1.2, first.insurance().getRiskFactor());
+        assertEquals(4, second.line());
+        assertNull(second.insurance().getClaimDate());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReportUnparsableRowsWithoutStopping() throws Exception {
+        // Given
+        CsvInsuranceRowReader reader = readerOf("""
+                policyNumber,holderName,startDate,endDate,insuredAmount,riskFactor
+                ABC123,Maria Souza,2025-03-15,2026-03-15,abc,1.2
+                ABC124,"Maria Souza,2025-03-15,2026-03-15,1000,1.2
+                ABC125,Maria Souza,2025-03-15,2026-03-15,1000,1.2
+                """);
+
+        // When & Then
+        assertNotNull(reader.next().error());
+        assertEquals("unterminated quoted field", reader.next().error());
+        assertEquals("ABC125", reader.next().insurance().getPolicyNumber());
+    }
+
+    @Test
+    void shouldRejectHeaderWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class, () -> readerOf("policyNumber,holderName\nABC,Maria\n").next());
+    }
+
+    @Test
+    void shouldSplitQuotedFields() {
+        assertEquals(List.of("a", "b \"c\"", ""), CsvInsuranceRowReader.split("a,\"b \"\"c\"\"\","));
+    }
+
+    private static CsvInsuranceRowReader readerOf(String csv) {
+        return new CsvInsuranceRowReader(new BufferedReader(new StringReader(csv)));
+    }
+}
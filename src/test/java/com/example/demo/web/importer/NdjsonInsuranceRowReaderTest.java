@@ -0,0 +1,39 @@
+package com.example.demo.web.importer;
+
+import com.example.demo.application.ports.InsuranceRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonInsuranceRowReaderTest {
+
+    @Test
+    void shouldReportNullAndMalformedLinesAsRowErrors() throws Exception {
+        // Given
+        NdjsonInsuranceRowReader reader = new NdjsonInsuranceRowReader(new BufferedReader(new StringReader("""
+                null
+                {"policyNumber": "ABC123"
+
+                {"policyNumber": "ABC124", "startDate": "2025-03-15", "insuredAmount": 1000, "riskFactor": 1.2}
+                """)), new ObjectMapper().registerModule(new JavaTimeModule()));
+
+        // When
+        InsuranceRowReader.Row nullLine = reader.next();
+        InsuranceRowReader.Row malformed = reader.next();
+        InsuranceRowReader.Row valid = reader.next();
+
+        // Then
+        assertEquals(1, nullLine.line());
+        assertNull(nullLine.insurance());
+        assertEquals("expected a JSON object", nullLine.error());
+        assertNotNull(malformed.error());
+        assertEquals(4, valid.line());
+        assertEquals("ABC124", valid.insurance().getPolicyNumber());
+        assertNull(reader.next());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.domain.model.PremiumKernel;
+import com.example.demo.domain.model.RatingTable;
+import com.example.demo.infrastructure.config.PremiumKernelConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorPremiumKernelTest {
+
+    private static final RatingTable BANDED = new RatingTable(0.06, 250.0, List.of(
+            new RatingTable.RiskBand(0.8, 0.9),
+            new RatingTable.RiskBand(1.2, 1.0),
+            new RatingTable.RiskBand(1.8, 1.25)));
+
+    @Test
+    void shouldProduceIdenticalPremiumsWithVectorAndScalarKernels() {
+        // Given
+        SplittableRandom random = new SplittableRandom(7);
+        int length = 10_003;
+        double[] amounts = new double[length];
+        double[] risks = new double[length];
+        for (int i = 0; i < length; i++) {
+            amounts[i] = random.nextDouble(100.0, 1_000_000.0);
+            risks[i] = random.nextDouble(0.5, 2.5);
+        }
+        double[] scalar = new double[length];
+        double[] vector = new double[length];
+
+        // When
+        PremiumKernel.scalar(BANDED).price(amounts, risks, scalar, length);
+        new VectorPremiumKernel(BANDED).price(amounts, risks, vector, length);
+
+        // Then
+        assertArrayEquals(scalar, vector, 0.0);
+    }
+
+    @Test
+    void shouldSelectVectorKernelWhenModuleIsLoaded() {
+        // When
+        PremiumKernel kernel = new PremiumKernelConfig().premiumKernelFactory().create(BANDED);
+
+        // Then
+        assertTrue(kernel.name().startsWith("vector"));
+    }
+}
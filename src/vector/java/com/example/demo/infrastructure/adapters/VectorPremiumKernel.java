@@ -0,0 +1,53 @@
+package com.example.demo.infrastructure.adapters;
+
+import com.example.demo.domain.model.PremiumKernel;
+import com.example.demo.domain.model.RatingTable;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel com a Vector API. As faixas de risco viram máscaras aplicadas da última para a primeira, de modo que a
+ * primeira faixa que cobre o fator prevalece, como em {@link RatingTable#multiplier}. As multiplicações seguem a
+ * mesma ordem do cálculo escalar, então os resultados são idênticos bit a bit.
+ * Compilada só com {@code -Pvector} e carregada pela {@code PremiumKernelConfig} quando o módulo
+ * {@code jdk.incubator.vector} está presente.
+ */
+public final class VectorPremiumKernel implements PremiumKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final RatingTable ratingTable;
+    private final double[] bandLimits;
+    private final double[] bandMultipliers;
+
+    public VectorPremiumKernel(RatingTable ratingTable) {
+        this.ratingTable = ratingTable;
+        this.bandLimits = ratingTable.bands().stream().mapToDouble(RatingTable.RiskBand::maxRiskFactor).toArray();
+        this.bandMultipliers = ratingTable.bands().stream().mapToDouble(RatingTable.RiskBand::multiplier).toArray();
+    }
+
+    @Override
+    public void price(double[] insuredAmounts, double[] riskFactors, double[] premiums, int length) {
+        double baseRate = ratingTable.baseRate();
+        double minimumPremium = ratingTable.minimumPremium();
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            DoubleVector amounts = DoubleVector.fromArray(SPECIES, insuredAmounts, i);
+            DoubleVector risks = DoubleVector.fromArray(SPECIES, riskFactors, i);
+            DoubleVector multipliers = DoubleVector.broadcast(SPECIES, 1.0);
+            for (int band = bandLimits.length - 1; band >= 0; band--) {
+                multipliers = multipliers.blend(bandMultipliers[band], risks.compare(VectorOperators.LE, bandLimits[band]));
+            }
+            amounts.mul(risks).mul(baseRate).mul(multipliers).max(minimumPremium).intoArray(premiums, i);
+        }
+        for (; i < length; i++) {
+            premiums[i] = ratingTable.premium(insuredAmounts[i], riskFactors[i]);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+}